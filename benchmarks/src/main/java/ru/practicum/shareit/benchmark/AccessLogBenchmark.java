@@ -0,0 +1,165 @@
+package ru.practicum.shareit.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import ru.practicum.shareit.log.AccessLogFilter;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request logging cost in the gateway, measured on the gateway's own {@link AccessLogFilter} with mock servlet
+ * requests and responses. {@code FULL_BODY_SYNC} is the former controller logging, which stringified every response
+ * body at INFO through a synchronous appender. The other modes run the filter with
+ * {@code gateway.access-log.body=off}, {@code truncated} (512 bytes) or {@code sampled} (1% of requests), logging
+ * through an async appender configured like the gateway's {@code logback-spring.xml}. Each call writes the whole body
+ * to a mock response that discards it, so the difference between modes is the logging overhead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccessLogBenchmark {
+
+    private static final int BODY_MAX_LENGTH = 512;
+    private static final double BODY_SAMPLE_RATE = 0.01;
+
+    @Param({"FULL_BODY_SYNC", "OFF", "TRUNCATED", "SAMPLED"})
+    public String mode;
+
+    @Param({"1024", "65536"})
+    public int bodySize;
+
+    private Logger logger;
+    private Appender<ILoggingEvent> appender;
+    private AccessLogFilter filter;
+    private FilterChain chain;
+    private byte[] body;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} access %msg%n");
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> output = new OutputStreamAppender<>();
+        output.setContext(context);
+        output.setEncoder(encoder);
+        output.setOutputStream(OutputStream.nullOutputStream());
+        output.start();
+
+        appender = output;
+        if (!mode.equals("FULL_BODY_SYNC")) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setNeverBlock(true);
+            async.addAppender(output);
+            async.start();
+            appender = async;
+        }
+
+        logger = context.getLogger("shareit.access");
+        logger.setLevel(ch.qos.logback.classic.Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+
+        StringBuilder json = new StringBuilder("[");
+        while (json.length() < bodySize) {
+            json.append("{\"id\":").append(json.length()).append(",\"name\":\"Drill\",\"available\":true},");
+        }
+        body = json.append("{}]").toString().getBytes(StandardCharsets.UTF_8);
+
+        if (mode.equals("FULL_BODY_SYNC")) {
+            chain = (request, response) -> {
+                logger.info("GET /items/search — searchItems called with text={}, from={}, size={}", "drill", 0, 10);
+                response.getOutputStream().write(body);
+                logger.info("GET /items/search — response: status={}, body={}", 200,
+                        new String(body, StandardCharsets.UTF_8));
+            };
+        } else {
+            filter = new AccessLogFilter(1.0, 1000, mode, BODY_MAX_LENGTH, BODY_SAMPLE_RATE);
+            chain = (request, response) -> response.getOutputStream().write(body);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        logger.detachAppender(appender);
+        appender.stop();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse logRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/items/search");
+        request.setQueryString("text=drill&from=0&size=10");
+        request.addHeader("X-Sharer-User-Id", "1");
+        MockHttpServletResponse response = new DiscardingResponse();
+        if (filter != null) {
+            filter.doFilter(request, response, chain);
+        } else {
+            chain.doFilter(request, response);
+        }
+        return response;
+    }
+
+    /**
+     * {@link MockHttpServletResponse} copies the body byte by byte, which would outweigh the logging being measured.
+     */
+    private static class DiscardingResponse extends MockHttpServletResponse {
+
+        private static final ServletOutputStream DISCARD = new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] bytes, int offset, int length) {
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+        };
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return DISCARD;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package ru.practicum.shareit.benchmark;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bulk-inserts a deterministic data set through JDBC with explicit ids: owners are users {@code 1..owners},
+ * bookers {@code owners+1..2*owners}. The id sequences are moved past the seeded rows afterwards.
+ */
+public class BenchmarkData {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int SEQUENCE_GAP = 100;
+    private static final String[] WORDS = {"drill", "saw", "hammer", "ladder", "tent", "bike", "kayak", "camera"};
+    private static final String[] STATUSES = {"WAITING", "APPROVED", "REJECTED"};
+
+    private final JdbcTemplate jdbc;
+    private final int owners;
+    private final int itemsPerOwner;
+    private final int bookingsPerItem;
+    private final int requestsPerUser;
+
+    public BenchmarkData(JdbcTemplate jdbc, int owners, int itemsPerOwner, int bookingsPerItem, int requestsPerUser) {
+        this.jdbc = jdbc;
+        this.owners = owners;
+        this.itemsPerOwner = itemsPerOwner;
+        this.bookingsPerItem = bookingsPerItem;
+        this.requestsPerUser = requestsPerUser;
+    }
+
+    public void seed() {
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 1; i <= owners * 2; i++) {
+            users.add(new Object[]{i, "user" + i, "user" + i + "@bench.local"});
+        }
+        insert("INSERT INTO users (id, name, email) VALUES (?, ?, ?)", users);
+
+        List<Object[]> requests = new ArrayList<>();
+        for (int user = owners + 1; user <= owners * 2; user++) {
+            for (int r = 0; r < requestsPerUser; r++) {
+                requests.add(new Object[]{requests.size() + 1, "Need a " + WORDS[r % WORDS.length], user,
+                        Timestamp.valueOf(LocalDateTime.now())});
+            }
+        }
+        insert("INSERT INTO item_requests (id, description, requester_id, created) VALUES (?, ?, ?, ?)", requests);
+
+        long requestCount = (long) owners * requestsPerUser;
+        List<Object[]> items = new ArrayList<>();
+        for (int owner = 1; owner <= owners; owner++) {
+            for (int i = 0; i < itemsPerOwner; i++) {
+                long n = (long) (owner - 1) * itemsPerOwner + i;
+                Long requestId = requestCount > 0 && n % 3 == 0 ? n % requestCount + 1 : null;
+                items.add(new Object[]{n + 1, WORDS[(int) (n % WORDS.length)] + " " + n,
+                        "Good " + WORDS[(int) ((n + 3) % WORDS.length)] + " for rent", n % 10 != 0, owner, requestId});
+            }
+        }
+        insert("INSERT INTO items (id, name, description, available, owner_id, item_request_id) VALUES (?, ?, ?, ?, ?, ?)",
+                items);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> bookings = new ArrayList<>();
+        List<Object[]> comments = new ArrayList<>();
+        for (long item = 1; item <= (long) owners * itemsPerOwner; item++) {
+            long booker = owners + (item - 1) / itemsPerOwner + 1;
+            for (int b = 0; b < bookingsPerItem; b++) {
+                LocalDateTime start = now.plusDays(b * 3L - bookingsPerItem * 3L / 2);
+                bookings.add(new Object[]{bookings.size() + 1, item, booker, Timestamp.valueOf(start), Timestamp.valueOf(start.plusDays(2)),
+                        STATUSES[b % STATUSES.length]});
+            }
+            comments.add(new Object[]{item, item, booker, "Works fine", Timestamp.valueOf(now)});
+        }
+        insert("INSERT INTO bookings (id, item_id, booker_id, start_date, end_date, status) VALUES (?, ?, ?, ?, ?, ?)",
+                bookings);
+        insert("INSERT INTO comments (id, item_id, user_id, text, created_date) VALUES (?, ?, ?, ?, ?)", comments);
+
+        restartSequence("users_seq", users.size());
+        restartSequence("item_requests_seq", requests.size());
+        restartSequence("items_seq", items.size());
+        restartSequence("bookings_seq", bookings.size());
+        restartSequence("comments_seq", comments.size());
+    }
+
+    public long ownerId(int index) {
+        return index % owners + 1;
+    }
+
+    public long bookerId(int index) {
+        return owners + index % owners + 1;
+    }
+
+    public long itemId(int index) {
+        return index % ((long) owners * itemsPerOwner) + 1;
+    }
+
+    public String searchWord(int index) {
+        return WORDS[index % WORDS.length];
+    }
+
+    private void restartSequence(String sequence, long rows) {
+        jdbc.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + (rows + SEQUENCE_GAP));
+    }
+
+    private void insert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbc.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.BookingService;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingAdmissionBenchmark {
+
+    private static final long AVAILABLE_ITEM_ID = 2L;
+
+    private BookingService bookingService;
+    private ShareItState state;
+    private LocalDateTime nextStart;
+
+    @Setup
+    public void setUp(ShareItState state) {
+        this.state = state;
+        this.bookingService = state.bean(BookingService.class);
+        this.nextStart = LocalDateTime.now().plusYears(10);
+    }
+
+    @Benchmark
+    public BookingResponseDto addBooking() {
+        LocalDateTime start = nextStart;
+        nextStart = start.plusHours(2);
+        BookingDto dto = new BookingDto(null, AVAILABLE_ITEM_ID, null, start, start.plusHours(1), null);
+        return bookingService.addBooking(state.data.bookerId(0), dto);
+    }
+}
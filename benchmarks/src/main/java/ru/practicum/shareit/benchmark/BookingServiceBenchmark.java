@@ -0,0 +1,50 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.BookingService;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingServiceBenchmark {
+
+    @Param({"ALL", "CURRENT", "PAST", "FUTURE", "WAITING", "REJECTED"})
+    public String bookingState;
+
+    private BookingService bookingService;
+    private ShareItState state;
+    private int counter;
+
+    @Setup
+    public void setUp(ShareItState state) {
+        this.state = state;
+        this.bookingService = state.bean(BookingService.class);
+    }
+
+    @Benchmark
+    public List<BookingResponseDto> getOwnerBookings() {
+        return bookingService.getOwnerBookings(state.data.ownerId(counter++), bookingState, 0, 10);
+    }
+
+    @Benchmark
+    public List<BookingResponseDto> getUserBookings() {
+        return bookingService.getUserBookings(state.data.bookerId(counter++), bookingState, 0, 10);
+    }
+}
@@ -0,0 +1,57 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.item.ItemImporter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times one NDJSON bulk import of {@code items} rows; rows per second is {@code items / score}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ItemImportBenchmark {
+
+    @Param("1000000")
+    public int items;
+
+    private ItemImporter itemImporter;
+    private ShareItState state;
+    private byte[] ndjson;
+
+    @Setup
+    public void setUp(ShareItState state) {
+        this.state = state;
+        this.itemImporter = state.bean(ItemImporter.class);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(items * 80);
+        for (int i = 0; i < items; i++) {
+            String word = state.data.searchWord(i);
+            out.writeBytes(("{\"name\":\"" + word + " import " + i + "\",\"description\":\"Bulk " + word
+                    + "\",\"available\":" + (i % 10 != 0) + "}\n").getBytes(StandardCharsets.UTF_8));
+        }
+        ndjson = out.toByteArray();
+    }
+
+    @Benchmark
+    public long importItems() {
+        return itemImporter.importItems(state.data.ownerId(0), new ByteArrayInputStream(ndjson));
+    }
+}
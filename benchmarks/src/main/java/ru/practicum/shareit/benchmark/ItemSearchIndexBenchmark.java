@@ -0,0 +1,72 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.item.ItemSearchIndex;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Search latency of the in-memory index ({@code shareit.search.index.enabled=true}) over {@code -p items=...}
+ * items, sampled so the JMH report includes p99. Queries are a whole word, a one-letter prefix that covers a large
+ * share of the dictionary, and two words that must both match. The index is filled directly, without the
+ * database; setup prints its estimated size and the heap it actually took.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class ItemSearchIndexBenchmark {
+
+    private static final String[] WORDS = {"drill", "saw", "hammer", "ladder", "tent", "bike", "kayak", "camera",
+            "driver", "sander", "lamp", "table", "chair", "grill", "boat", "tripod"};
+
+    @Param("1000000")
+    public int items;
+
+    @Param({"drill", "d", "cordless drill"})
+    public String query;
+
+    private ItemSearchIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long heapBefore = usedHeap();
+        index = new ItemSearchIndex(null, true);
+        for (int n = 1; n <= items; n++) {
+            String name = WORDS[n % WORDS.length] + " " + WORDS[(n / WORDS.length) % WORDS.length] + " " + n;
+            String description = (n % 3 == 0 ? "Cordless " : "Good ") + WORDS[(n + 5) % WORDS.length]
+                    + " for rent, model " + (n % 1000);
+            index.index(new Item((long) n, name, description, n % 10 != 0, null, null));
+        }
+        System.out.printf("%nindex: %d items, estimated %d MB, heap %d MB%n",
+                items, index.memoryFootprintBytes() >> 20, (usedHeap() - heapBefore) >> 20);
+    }
+
+    @Benchmark
+    public List<Long> search() {
+        return index.search(query, 0, 10);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,58 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemServiceBenchmark {
+
+    private ItemService itemService;
+    private ShareItState state;
+    private int counter;
+
+    @Setup
+    public void setUp(ShareItState state) {
+        this.state = state;
+        this.itemService = state.bean(ItemService.class);
+    }
+
+    @Benchmark
+    public List<ItemDto> searchItems() {
+        return itemService.searchItems(state.data.searchWord(counter++), 0, 10);
+    }
+
+    @Benchmark
+    public ItemDto getItemByIdAsOwner() {
+        int index = counter++;
+        long itemId = state.data.itemId(index);
+        return itemService.getItemById(itemId, (itemId - 1) / state.itemsPerOwner + 1);
+    }
+
+    @Benchmark
+    public ItemDto getItemByIdAsGuest() {
+        return itemService.getItemById(state.data.itemId(counter++), state.data.bookerId(0));
+    }
+
+    @Benchmark
+    public List<ItemDto> getAllItemsByOwner() {
+        return itemService.getAllItemsByOwner(state.data.ownerId(counter++));
+    }
+}
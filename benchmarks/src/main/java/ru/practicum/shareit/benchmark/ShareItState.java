@@ -0,0 +1,63 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.ShareItServer;
+
+/**
+ * Boots the server's service layer against an in-memory H2 database and seeds it once per trial.
+ * Data volume is controlled with {@code -p owners=...}, {@code -p itemsPerOwner=...} and so on.
+ */
+@State(Scope.Benchmark)
+public class ShareItState {
+
+    @Param("100")
+    public int owners;
+
+    @Param("50")
+    public int itemsPerOwner;
+
+    @Param("20")
+    public int bookingsPerItem;
+
+    @Param("10")
+    public int requestsPerUser;
+
+    public ConfigurableApplicationContext context;
+    public BenchmarkData data;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:shareit-bench;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driverClassName=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.flyway.enabled=false",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN");
+
+        data = new BenchmarkData(context.getBean(JdbcTemplate.class),
+                owners, itemsPerOwner, bookingsPerItem, requestsPerUser);
+        data.seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+}
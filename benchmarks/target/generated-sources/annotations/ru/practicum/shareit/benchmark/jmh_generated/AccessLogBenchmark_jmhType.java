@@ -0,0 +1,4 @@
+package ru.practicum.shareit.benchmark.jmh_generated;
+public class AccessLogBenchmark_jmhType extends AccessLogBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package ru.practicum.shareit.benchmark.jmh_generated;
+public class BookingAdmissionBenchmark_jmhType extends BookingAdmissionBenchmark_jmhType_B3 {
+}
+
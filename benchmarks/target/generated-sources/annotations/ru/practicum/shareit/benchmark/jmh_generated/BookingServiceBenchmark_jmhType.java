@@ -0,0 +1,4 @@
+package ru.practicum.shareit.benchmark.jmh_generated;
+public class BookingServiceBenchmark_jmhType extends BookingServiceBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package ru.practicum.shareit.benchmark.jmh_generated;
+public class ItemImportBenchmark_jmhType extends ItemImportBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package ru.practicum.shareit.benchmark.jmh_generated;
+public class ItemRequestServiceBenchmark_jmhType extends ItemRequestServiceBenchmark_jmhType_B3 {
+}
+
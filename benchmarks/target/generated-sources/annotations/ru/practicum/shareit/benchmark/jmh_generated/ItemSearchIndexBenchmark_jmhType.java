@@ -0,0 +1,4 @@
+package ru.practicum.shareit.benchmark.jmh_generated;
+public class ItemSearchIndexBenchmark_jmhType extends ItemSearchIndexBenchmark_jmhType_B3 {
+}
+
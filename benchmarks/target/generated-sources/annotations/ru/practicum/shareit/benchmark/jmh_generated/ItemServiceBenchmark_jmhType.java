@@ -0,0 +1,4 @@
+package ru.practicum.shareit.benchmark.jmh_generated;
+public class ItemServiceBenchmark_jmhType extends ItemServiceBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package ru.practicum.shareit.benchmark.jmh_generated;
+public class ShareItState_jmhType extends ShareItState_jmhType_B3 {
+}
+
@@ -1,5 +1,6 @@
 package ru.practicum.shareit.booking;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
@@ -10,6 +11,8 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.booking.dto.BookingDto;
 
+import java.io.IOException;
+
 @RestController
 @RequestMapping(path = "/bookings")
 @RequiredArgsConstructor
@@ -23,7 +26,7 @@ public class BookingController {
     @PostMapping
     public ResponseEntity<Object> createBooking(@RequestHeader("X-Sharer-User-Id") long userId,
                                                 @RequestBody @Valid BookingDto requestDto) {
-        log.info("Creating booking {}, userId={}", requestDto, userId);
+        log.debug("Creating booking {}, userId={}", requestDto, userId);
         return bookingClient.createBooking(userId, requestDto);
     }
 
@@ -31,14 +34,14 @@ public class BookingController {
     public ResponseEntity<Object> updateBookingStatus(@RequestHeader("X-Sharer-User-Id") long ownerId,
                                                       @PathVariable Long bookingId,
                                                       @RequestParam boolean approved) {
-        log.info("PATCH /bookings/{} — updateBookingStatus called by ownerId={}, approved={}", bookingId, ownerId, approved);
+        log.debug("PATCH /bookings/{} — updateBookingStatus called by ownerId={}, approved={}", bookingId, ownerId, approved);
         return bookingClient.updateBookingStatus(bookingId, ownerId, approved);
     }
 
     @GetMapping("/{bookingId}")
     public ResponseEntity<Object> getBooking(@RequestHeader("X-Sharer-User-Id") long userId,
                                              @PathVariable Long bookingId) {
-        log.info("GET /bookings/{} — getBooking called by userId={}", bookingId, userId);
+        log.debug("GET /bookings/{} — getBooking called by userId={}", bookingId, userId);
         return bookingClient.getBooking(userId, bookingId);
     }
 
@@ -47,7 +50,7 @@ public class BookingController {
                                                   @RequestParam(name = "state", defaultValue = "ALL") String state,
                                                   @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
                                                   @Positive @RequestParam(name = "size", defaultValue = "10") Integer size) {
-        log.info("GET /bookings — getUserBookings called by userId={}, state={}, from={}, size={}", userId, state, from, size);
+        log.debug("GET /bookings — getUserBookings called by userId={}, state={}, from={}, size={}", userId, state, from, size);
         return bookingClient.getUserBookings(userId, state, from, size);
     }
 
@@ -56,16 +59,24 @@ public class BookingController {
                                                    @RequestParam(name = "state", defaultValue = "ALL") String state,
                                                    @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
                                                    @Positive @RequestParam(name = "size", defaultValue = "10") Integer size) {
-        log.info("GET /bookings/owner — getOwnerBookings called by ownerId={}, state={}, from={}, size={}", ownerId, state, from, size);
+        log.debug("GET /bookings/owner — getOwnerBookings called by ownerId={}, state={}, from={}, size={}", ownerId, state, from, size);
         return bookingClient.getOwnerBookings(ownerId, state, from, size);
     }
 
+    @GetMapping("/owner/export")
+    public void exportOwnerBookings(@RequestHeader("X-Sharer-User-Id") long ownerId,
+                                    @RequestParam(name = "format", defaultValue = "ndjson") String format,
+                                    HttpServletResponse response) throws IOException {
+        log.debug("GET /bookings/owner/export — exportOwnerBookings called by ownerId={}, format={}", ownerId, format);
+        bookingClient.exportOwnerBookings(ownerId, format, response);
+    }
+
     //    @PostMapping
 //    public ResponseEntity<Object> createBooking(@RequestHeader("X-Sharer-User-Id") long userId,
 //                                                @RequestBody @Valid BookingDto bookingDto) {
-//        log.info("POST /bookings — createBooking called by userId={} with body={}", userId, bookingDto);
+//        log.debug("POST /bookings — createBooking called by userId={} with body={}", userId, bookingDto);
 //        ResponseEntity<Object> response = bookingClient.createBooking(userId, bookingDto);
-//        log.info("POST /bookings — response: status={}, body={}", response.getStatusCode(), response.getBody());
+//        log.debug("POST /bookings — response: status={}, body={}", response.getStatusCode(), response.getBody());
 //        return response;
 //    }
 
@@ -1,22 +1,61 @@
 package ru.practicum.shareit.client;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.StreamingHttpOutputMessage;
 import org.springframework.lang.Nullable;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 
-public class BaseClient {
+public abstract class BaseClient {
     protected final RestTemplate rest;
+    private final GatewayResponseCache responseCache;
 
-    public BaseClient(RestTemplate rest) {
+    public BaseClient(RestTemplate rest, GatewayResponseCache responseCache) {
         this.rest = rest;
+        this.responseCache = responseCache;
+    }
+
+    /**
+     * Top-level paths, such as {@code /items}, whose cached GET responses a successful write through this client can
+     * change.
+     */
+    protected abstract Collection<String> invalidatedPaths();
+
+    protected ResponseEntity<Object> cachedGet(String path, @Nullable Long userId) {
+        return cachedGet(path, userId, null);
+    }
+
+    protected ResponseEntity<Object> cachedGet(String path, @Nullable Long userId,
+                                               @Nullable Map<String, Object> parameters) {
+        URI uri = expand(path, parameters);
+        if (!responseCache.isEnabled()) {
+            return send(HttpMethod.GET, uri, userId, null);
+        }
+
+        String key = GatewayResponseCache.key(uri, userId);
+        ResponseEntity<Object> cached = responseCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        long version = responseCache.version(key);
+        ResponseEntity<Object> response = send(HttpMethod.GET, uri, userId, null);
+        responseCache.put(key, version, response);
+        return response;
     }
 
     protected ResponseEntity<Object> get(String path) {
@@ -31,6 +70,37 @@ public class BaseClient {
         return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null);
     }
 
+    /**
+     * Copies a GET response from the server straight into the servlet response as it arrives, for bodies too large
+     * to hold in memory. Error responses are forwarded the same way as for buffered calls.
+     */
+    protected void getStream(String path, long userId, @Nullable Map<String, Object> parameters,
+                             HttpServletResponse target) throws IOException {
+        URI uri = expand(path, parameters);
+        try {
+            rest.execute(uri, HttpMethod.GET, request -> {
+                request.getHeaders().putAll(defaultHeaders(userId));
+                request.getHeaders().setAccept(List.of(MediaType.ALL));
+            }, serverResponse -> {
+                copy(serverResponse.getStatusCode(), serverResponse.getHeaders(), serverResponse.getBody(), target);
+                return null;
+            });
+        } catch (HttpStatusCodeException e) {
+            copy(e.getStatusCode(), e.getResponseHeaders(), new ByteArrayInputStream(e.getResponseBodyAsByteArray()), target);
+        }
+    }
+
+    private static void copy(HttpStatusCode status, @Nullable HttpHeaders headers, InputStream body,
+                             HttpServletResponse target) throws IOException {
+        target.setStatus(status.value());
+        if (headers != null && headers.getContentType() != null) {
+            target.setContentType(headers.getContentType().toString());
+        }
+        OutputStream out = target.getOutputStream();
+        body.transferTo(out);
+        out.flush();
+    }
+
     protected <T> ResponseEntity<Object> post(String path, T body) {
         return post(path, null, null, body);
     }
@@ -43,6 +113,35 @@ public class BaseClient {
         return makeAndSendRequest(HttpMethod.POST, path, userId, parameters, body);
     }
 
+    /**
+     * Forwards a request body straight from the caller's stream to the server without buffering it, for uploads
+     * too large to bind into an object. {@code client} is the template to send it with, so a long upload can use
+     * its own timeouts; it must resolve paths like {@link #rest}.
+     */
+    protected ResponseEntity<Object> postStream(RestTemplate client, String path, long userId, MediaType contentType,
+                                                InputStream body) {
+        URI uri = expand(path, null);
+        ResponseEntity<Object> response;
+        try {
+            response = client.execute(uri, HttpMethod.POST, request -> {
+                request.getHeaders().putAll(defaultHeaders(userId));
+                request.getHeaders().setContentType(contentType);
+                if (request instanceof StreamingHttpOutputMessage streaming) {
+                    streaming.setBody(body::transferTo);
+                } else {
+                    body.transferTo(request.getBody());
+                }
+            }, serverResponse -> prepareGatewayResponse(serverResponse.getStatusCode(), serverResponse.getHeaders(),
+                    serverResponse.getBody().readAllBytes()));
+        } catch (HttpStatusCodeException e) {
+            return prepareGatewayResponse(e.getStatusCode(), e.getResponseHeaders(), e.getResponseBodyAsByteArray());
+        }
+        if (response != null && response.getStatusCode().is2xxSuccessful()) {
+            responseCache.invalidate(invalidatedPaths());
+        }
+        return response;
+    }
+
     protected <T> ResponseEntity<Object> put(String path, long userId, T body) {
         return put(path, userId, null, body);
     }
@@ -80,19 +179,31 @@ public class BaseClient {
     }
 
     private <T> ResponseEntity<Object> makeAndSendRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
+        ResponseEntity<Object> response = send(method, expand(path, parameters), userId, body);
+        if (method != HttpMethod.GET && response.getStatusCode().is2xxSuccessful()) {
+            responseCache.invalidate(invalidatedPaths());
+        }
+        return response;
+    }
+
+    private URI expand(String path, @Nullable Map<String, Object> parameters) {
+        if (parameters != null) {
+            return rest.getUriTemplateHandler().expand(path, parameters);
+        }
+        return rest.getUriTemplateHandler().expand(path);
+    }
+
+    private <T> ResponseEntity<Object> send(HttpMethod method, URI uri, Long userId, @Nullable T body) {
         HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId));
 
-        ResponseEntity<Object> shareitServerResponse;
+        ResponseEntity<byte[]> shareitServerResponse;
         try {
-            if (parameters != null) {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class, parameters);
-            } else {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class);
-            }
+            shareitServerResponse = rest.exchange(uri, method, requestEntity, byte[].class);
         } catch (HttpStatusCodeException e) {
-            return ResponseEntity.status(e.getStatusCode()).body(e.getResponseBodyAsByteArray());
+            return prepareGatewayResponse(e.getStatusCode(), e.getResponseHeaders(), e.getResponseBodyAsByteArray());
         }
-        return prepareGatewayResponse(shareitServerResponse);
+        return prepareGatewayResponse(shareitServerResponse.getStatusCode(), shareitServerResponse.getHeaders(),
+                shareitServerResponse.getBody());
     }
 
     private HttpHeaders defaultHeaders(Long userId) {
@@ -105,17 +216,21 @@ public class BaseClient {
         return headers;
     }
 
-    private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<Object> response) {
-        if (response.getStatusCode().is2xxSuccessful()) {
-            return response;
+    /**
+     * Passes the server's body through as raw bytes with its content type, so the gateway never parses
+     * or re-serializes the JSON it forwards.
+     */
+    private static ResponseEntity<Object> prepareGatewayResponse(HttpStatusCode status, @Nullable HttpHeaders headers,
+                                                                 @Nullable byte[] body) {
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(status);
+        if (headers != null && headers.getContentType() != null) {
+            responseBuilder.contentType(headers.getContentType());
         }
 
-        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getStatusCode());
-
-        if (response.hasBody()) {
-            return responseBuilder.body(response.getBody());
+        if (body != null && body.length > 0) {
+            return responseBuilder.body(body);
         }
 
         return responseBuilder.build();
     }
-}
\ No newline at end of file
+}
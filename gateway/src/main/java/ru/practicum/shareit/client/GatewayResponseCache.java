@@ -0,0 +1,122 @@
+package ru.practicum.shareit.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Short-lived cache of successful server responses to idempotent GETs, keyed by path, query and the
+ * {@code X-Sharer-User-Id} of the caller. Writes that pass through {@link BaseClient} invalidate the top-level paths
+ * they can affect, such as {@code /items}.
+ * <p>
+ * Each top-level path has a version that an invalidation increments. A response is stored with the version its read
+ * started at and served only while that version is current, so invalidating is a counter increment rather than a
+ * scan of the cache, and a slower read can never bring back what a write invalidated. Outdated entries are dropped
+ * when next read or when they expire.
+ */
+@Component
+public class GatewayResponseCache {
+
+    private final boolean enabled;
+    private final Cache<String, CachedResponse> cache;
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public GatewayResponseCache(@Value("${gateway.cache.enabled:true}") boolean enabled,
+                                @Value("${gateway.cache.ttl:30s}") Duration ttl,
+                                @Value("${gateway.cache.max-size:10000}") long maxSize,
+                                MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gateway.responses");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public static String key(URI uri, @Nullable Long userId) {
+        String query = uri.getRawQuery();
+        return uri.getRawPath() + (query == null ? "" : "?" + query) + "|" + userId;
+    }
+
+    /**
+     * Marks the start of a read of {@code key}; pass the returned value to {@link #put}.
+     */
+    public long version(String key) {
+        return versionOf(topLevelPath(key)).get();
+    }
+
+    @Nullable
+    public ResponseEntity<Object> get(String key) {
+        CachedResponse response = cache.getIfPresent(key);
+        if (response == null) {
+            return null;
+        }
+        if (response.version() != version(key)) {
+            cache.asMap().remove(key, response);
+            return null;
+        }
+        return response.toResponseEntity();
+    }
+
+    public void put(String key, long version, ResponseEntity<Object> response) {
+        if (response.getStatusCode().is2xxSuccessful() && response.getBody() instanceof byte[] body
+                && version(key) == version) {
+            cache.put(key, new CachedResponse(response.getStatusCode(), response.getHeaders().getContentType(), body,
+                    version));
+        }
+    }
+
+    /**
+     * Invalidates every cached response under the given top-level paths, e.g. {@code /items}.
+     */
+    public void invalidate(Collection<String> topLevelPaths) {
+        for (String path : topLevelPaths) {
+            versionOf(path).incrementAndGet();
+        }
+    }
+
+    private AtomicLong versionOf(String topLevelPath) {
+        return versions.computeIfAbsent(topLevelPath, path -> new AtomicLong());
+    }
+
+    /**
+     * The first path segment of a cache key: {@code /items} for {@code /items/1?x=y|1}.
+     */
+    private static String topLevelPath(String key) {
+        int end = 1;
+        while (end < key.length() && "/?|".indexOf(key.charAt(end)) < 0) {
+            end++;
+        }
+        return key.substring(0, end);
+    }
+
+    private record CachedResponse(HttpStatusCode status, @Nullable MediaType contentType, byte[] body, long version) {
+
+        ResponseEntity<Object> toResponseEntity() {
+            ResponseEntity.BodyBuilder builder = ResponseEntity.status(status);
+            if (contentType != null) {
+                builder.contentType(contentType);
+            }
+            return builder.body(body);
+        }
+    }
+}
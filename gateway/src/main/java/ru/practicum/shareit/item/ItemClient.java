@@ -1,15 +1,22 @@
 package ru.practicum.shareit.item;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.GatewayResponseCache;
 import ru.practicum.shareit.item.dto.ItemDto;
 
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 @Service
@@ -17,20 +24,39 @@ public class ItemClient extends BaseClient {
 
     private static final String API_PREFIX = "/items";
 
+    private final RestTemplate importRest;
+
     @Autowired
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                      ClientHttpRequestFactory requestFactory,
+                      @Qualifier("shareItServerImportRequestFactory") ClientHttpRequestFactory importRequestFactory,
+                      GatewayResponseCache responseCache) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
+                        .requestFactory(() -> requestFactory)
+                        .build(),
+                responseCache
         );
+        this.importRest = builder
+                .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
+                .requestFactory(() -> importRequestFactory)
+                .build();
+    }
+
+    @Override
+    protected Collection<String> invalidatedPaths() {
+        return List.of("/items", "/requests");
     }
 
     public ResponseEntity<Object> addItem(Long ownerId, ItemDto itemDto) {
         return post("", ownerId, itemDto);
     }
 
+    public ResponseEntity<Object> importItems(Long ownerId, InputStream ndjson) {
+        return postStream(importRest, "/bulk", ownerId, MediaType.APPLICATION_NDJSON, ndjson);
+    }
+
     public ResponseEntity<Object> updateItem(Long ownerId, Long itemId, ItemDto itemDto) {
         return put("/" + itemId, ownerId, itemDto);
     }
@@ -39,13 +65,17 @@ public class ItemClient extends BaseClient {
         return get("", ownerId);
     }
 
-    public ResponseEntity<Object> searchItems(String text) {
-        Map<String, Object> params = Map.of("text", text);
-        return get("/search?text={text}", null, params);
+    public ResponseEntity<Object> searchItems(String text, int from, int size) {
+        Map<String, Object> params = Map.of(
+                "text", text,
+                "from", from,
+                "size", size
+        );
+        return cachedGet("/search?text={text}&from={from}&size={size}", null, params);
     }
 
     public ResponseEntity<Object> getItemById(Long userId, Long itemId) {
-        return get("/" + itemId, userId);
+        return cachedGet("/" + itemId, userId);
     }
 
     public ResponseEntity<Object> addComment(Long itemId, Long userId, CommentDto commentDto) {
@@ -0,0 +1,98 @@
+package ru.practicum.shareit.log;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Writes one key=value line per request to the {@code shareit.access} logger.
+ * <p>
+ * Errors and slow requests are always logged, other requests with probability
+ * {@code gateway.access-log.sample-rate}. The response body is captured only when
+ * {@code gateway.access-log.body} asks for it: {@code off}, {@code truncated} (every logged request, cut to
+ * {@code gateway.access-log.body-max-length} bytes) or {@code sampled} (truncated bodies for a
+ * {@code gateway.access-log.body-sample-rate} fraction of requests). The body still goes straight to the client;
+ * only its first {@code body-max-length} bytes are kept for the log line. Streamed exports are logged without a body.
+ */
+@Component
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("shareit.access");
+    private static final Set<String> STREAMED_PATHS = Set.of("/bookings/owner/export");
+
+    public enum BodyMode {
+        OFF, TRUNCATED, SAMPLED
+    }
+
+    private final double sampleRate;
+    private final long slowThresholdMs;
+    private final BodyMode bodyMode;
+    private final int bodyMaxLength;
+    private final double bodySampleRate;
+
+    public AccessLogFilter(@Value("${gateway.access-log.sample-rate:1.0}") double sampleRate,
+                           @Value("${gateway.access-log.slow-threshold-ms:1000}") long slowThresholdMs,
+                           @Value("${gateway.access-log.body:off}") String bodyMode,
+                           @Value("${gateway.access-log.body-max-length:512}") int bodyMaxLength,
+                           @Value("${gateway.access-log.body-sample-rate:0.01}") double bodySampleRate) {
+        this.sampleRate = sampleRate;
+        this.slowThresholdMs = slowThresholdMs;
+        this.bodyMode = BodyMode.valueOf(bodyMode.toUpperCase(Locale.ROOT));
+        this.bodyMaxLength = bodyMaxLength;
+        this.bodySampleRate = bodySampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!ACCESS_LOG.isInfoEnabled()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long started = System.nanoTime();
+        BodyCaptureResponseWrapper bodyCapture = captureBody(request)
+                ? new BodyCaptureResponseWrapper(response, bodyMaxLength) : null;
+        HttpServletResponse target = bodyCapture != null ? bodyCapture : response;
+        try {
+            chain.doFilter(request, target);
+        } finally {
+            long durationMs = (System.nanoTime() - started) / 1_000_000;
+            int status = target.getStatus();
+            if (bodyCapture != null) {
+                bodyCapture.flushWriter();
+            }
+            if (status >= 400 || durationMs >= slowThresholdMs || sampled(sampleRate)) {
+                ACCESS_LOG.info("method={} path={} query={} status={} durationMs={} userId={} body={}",
+                        request.getMethod(), request.getRequestURI(), request.getQueryString(), status, durationMs,
+                        request.getHeader("X-Sharer-User-Id"), bodyCapture != null ? bodyCapture.body() : "-");
+            }
+        }
+    }
+
+    private boolean captureBody(HttpServletRequest request) {
+        if (STREAMED_PATHS.contains(request.getRequestURI())) {
+            return false;
+        }
+        return switch (bodyMode) {
+            case OFF -> false;
+            case TRUNCATED -> true;
+            case SAMPLED -> sampled(bodySampleRate);
+        };
+    }
+
+    private static boolean sampled(double rate) {
+        return rate >= 1.0 || ThreadLocalRandom.current().nextDouble() < rate;
+    }
+}
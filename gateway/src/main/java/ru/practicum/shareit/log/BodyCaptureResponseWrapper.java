@@ -0,0 +1,143 @@
+package ru.practicum.shareit.log;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Passes the response body straight through to the client and keeps a copy of its first {@code maxLength} bytes
+ * for the access log, so logging a body never buffers more than that.
+ */
+class BodyCaptureResponseWrapper extends HttpServletResponseWrapper {
+
+    private final byte[] head;
+    private int captured;
+    private long total;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    BodyCaptureResponseWrapper(HttpServletResponse response, int maxLength) {
+        super(response);
+        this.head = new byte[maxLength];
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new TeeOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        super.flushBuffer();
+    }
+
+    /**
+     * Pushes text still held by {@link #getWriter()} to the client and into the captured head.
+     */
+    void flushWriter() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    /**
+     * The captured head as UTF-8, cut back to a whole character and marked with the full size when the body was
+     * longer than the head.
+     */
+    String body() {
+        if (total <= captured) {
+            return new String(head, 0, captured, StandardCharsets.UTF_8);
+        }
+        return new String(head, 0, utf8Boundary(head, captured), StandardCharsets.UTF_8)
+                + "...(" + total + " bytes)";
+    }
+
+    /**
+     * Largest length not above {@code length} that does not split a UTF-8 sequence.
+     */
+    static int utf8Boundary(byte[] bytes, int length) {
+        int start = length;
+        while (start > 0 && length - start < 3 && (bytes[start - 1] & 0xC0) == 0x80) {
+            start--;
+        }
+        if (start == 0) {
+            return length;
+        }
+        int lead = bytes[start - 1] & 0xFF;
+        int sequenceLength = lead < 0x80 ? 1 : lead >= 0xF0 ? 4 : lead >= 0xE0 ? 3 : lead >= 0xC0 ? 2 : 1;
+        return start - 1 + sequenceLength <= length ? length : start - 1;
+    }
+
+    private void capture(byte[] bytes, int offset, int length) {
+        int room = Math.min(head.length - captured, length);
+        if (room > 0) {
+            System.arraycopy(bytes, offset, head, captured, room);
+            captured += room;
+        }
+        total += length;
+    }
+
+    private class TeeOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+
+        TeeOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            if (captured < head.length) {
+                head[captured++] = (byte) b;
+            }
+            total++;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            delegate.write(bytes, offset, length);
+            capture(bytes, offset, length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
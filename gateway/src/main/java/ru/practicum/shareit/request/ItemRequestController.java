@@ -24,37 +24,29 @@ public class ItemRequestController {
     @PostMapping
     public ResponseEntity<Object> createRequest(@RequestBody ItemRequestDto requestDto,
                                                 @RequestHeader("X-Sharer-User-Id") Long userId) {
-        log.info("POST /requests — createRequest called by userId={} with body={}", userId, requestDto);
-        ResponseEntity<Object> response = itemRequestClient.createRequest(userId, requestDto);
-        log.info("POST /requests — response: status={}, body={}", response.getStatusCode(), response.getBody());
-        return response;
+        log.debug("POST /requests — createRequest called by userId={} with body={}", userId, requestDto);
+        return itemRequestClient.createRequest(userId, requestDto);
     }
 
     @GetMapping
     public ResponseEntity<Object> getUserRequests(@RequestHeader("X-Sharer-User-Id") Long userId) {
-        log.info("GET /requests — getUserRequests called by userId={}", userId);
-        ResponseEntity<Object> response = itemRequestClient.getUserRequests(userId);
-        log.info("GET /requests — response: status={}, body={}", response.getStatusCode(), response.getBody());
-        return response;
+        log.debug("GET /requests — getUserRequests called by userId={}", userId);
+        return itemRequestClient.getUserRequests(userId);
     }
 
     @GetMapping("/all")
     public ResponseEntity<Object> getAllRequests(@RequestHeader("X-Sharer-User-Id") Long userId,
                                                  @RequestParam(defaultValue = "0") int from,
                                                  @RequestParam(defaultValue = "10") int size) {
-        log.info("GET /requests/all — getAllRequests called by userId={} with params: from={}, size={}", userId, from, size);
-        ResponseEntity<Object> response = itemRequestClient.getAllRequests(userId, from, size);
-        log.info("GET /requests/all — response: status={}, body={}", response.getStatusCode(), response.getBody());
-        return response;
+        log.debug("GET /requests/all — getAllRequests called by userId={} with params: from={}, size={}", userId, from, size);
+        return itemRequestClient.getAllRequests(userId, from, size);
     }
 
     @GetMapping("/{requestId}")
     public ResponseEntity<Object> getRequestById(@RequestHeader("X-Sharer-User-Id") Long userId,
                                                  @PathVariable Long requestId) {
-        log.info("GET /requests/{} — getRequestById called by userId={}", requestId, userId);
-        ResponseEntity<Object> response = itemRequestClient.getRequestById(userId, requestId);
-        log.info("GET /requests/{} — response: status={}, body={}", requestId, response.getStatusCode(), response.getBody());
-        return response;
+        log.debug("GET /requests/{} — getRequestById called by userId={}", requestId, userId);
+        return itemRequestClient.getRequestById(userId, requestId);
     }
 }
 
@@ -20,31 +20,31 @@ public class UserController {
 
     @PostMapping
     public ResponseEntity<Object> createUser(@Valid @RequestBody UserDto userDto) {
-        log.info("Creating user with body={}", userDto);
+        log.debug("Creating user with body={}", userDto);
         return userClient.createUser(userDto);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<Object> getUser(@PathVariable Long id) {
-        log.info("GET /users/{} — getUser called", id);
+        log.debug("GET /users/{} — getUser called", id);
         return userClient.getUser(id);
     }
 
     @GetMapping
     public ResponseEntity<Object> getAllUsers() {
-        log.info("GET /users — getAllUsers called");
+        log.debug("GET /users — getAllUsers called");
         return userClient.getAllUsers();
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Object> deleteUser(@PathVariable Long id) {
-        log.info("DELETE /users/{} — deleteUser called", id);
+        log.debug("DELETE /users/{} — deleteUser called", id);
         return userClient.deleteUser(id);
     }
 
     @PatchMapping("/{id}")
     public ResponseEntity<Object> updateUser(@PathVariable Long id, @RequestBody UserDto userUpdates) {
-        log.info("PATCH /users/{} — updateUser called with body={}", id, userUpdates);
+        log.debug("PATCH /users/{} — updateUser called with body={}", id, userUpdates);
         return userClient.updateUser(id, userUpdates);
     }
 }
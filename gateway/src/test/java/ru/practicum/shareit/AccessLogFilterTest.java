@@ -0,0 +1,75 @@
+package ru.practicum.shareit;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import ru.practicum.shareit.log.AccessLogFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AccessLogFilterTest {
+
+    private final Logger accessLog = (Logger) LoggerFactory.getLogger("shareit.access");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        accessLog.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        accessLog.detachAppender(appender);
+    }
+
+    @Test
+    void truncatedBody_ShouldPassWholeBodyThrough_AndCutLoggedBodyAtCharacterBoundary() throws Exception {
+        AccessLogFilter filter = new AccessLogFilter(1.0, 1000, "truncated", 5, 0.0);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/items/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        byte[] body = "абв".getBytes(StandardCharsets.UTF_8);
+
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                resp.getOutputStream().write(body);
+            }
+        }));
+
+        assertThat(response.getContentAsByteArray()).isEqualTo(body);
+        assertThat(appender.list).hasSize(1);
+        assertThat(appender.list.get(0).getFormattedMessage()).endsWith("body=аб...(6 bytes)");
+    }
+
+    @Test
+    void truncatedBody_ShouldLogWholeBody_WhenShorterThanLimit() throws Exception {
+        AccessLogFilter filter = new AccessLogFilter(1.0, 1000, "truncated", 512, 0.0);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/items/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                resp.setCharacterEncoding("UTF-8");
+                resp.getWriter().write("{\"id\":1}");
+            }
+        }));
+
+        assertThat(response.getContentAsString()).isEqualTo("{\"id\":1}");
+        assertThat(appender.list.get(0).getFormattedMessage()).endsWith("body={\"id\":1}");
+    }
+}
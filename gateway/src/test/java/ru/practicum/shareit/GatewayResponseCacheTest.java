@@ -0,0 +1,115 @@
+package ru.practicum.shareit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import ru.practicum.shareit.client.GatewayResponseCache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GatewayResponseCacheTest {
+
+    private static final String KEY = "/items/1|1";
+    private static final List<String> ITEM_PATHS = List.of("/items");
+
+    private final GatewayResponseCache cache =
+            new GatewayResponseCache(true, Duration.ofMinutes(1), 100, new SimpleMeterRegistry());
+
+    @Test
+    void put_ShouldStoreResponse_WhenNoWriteSinceRead() {
+        cache.put(KEY, cache.version(KEY), response(1));
+
+        assertThat(cache.get(KEY)).isNotNull();
+    }
+
+    @Test
+    void put_ShouldSkipResponse_WhenWriteHappenedSinceRead() {
+        long version = cache.version(KEY);
+        cache.invalidate(ITEM_PATHS);
+
+        cache.put(KEY, version, response(version));
+
+        assertThat(cache.get(KEY)).isNull();
+    }
+
+    @Test
+    void invalidate_ShouldKeepResponsesUnderOtherPaths() {
+        String userKey = "/users/1|null";
+        cache.put(KEY, cache.version(KEY), response(1));
+        cache.put(userKey, cache.version(userKey), response(1));
+
+        cache.invalidate(List.of("/users"));
+
+        assertThat(cache.get(KEY)).isNotNull();
+        assertThat(cache.get(userKey)).isNull();
+    }
+
+    @Test
+    void get_ShouldSkipResponse_WhenInvalidatedAfterPut() {
+        long version = cache.version(KEY);
+        cache.put(KEY, version, response(version));
+        cache.invalidate(ITEM_PATHS);
+
+        cache.put(KEY, version, response(version));
+
+        assertThat(cache.get(KEY)).isNull();
+        assertThat(cache.version("/items/search?text=drill|null")).isEqualTo(version + 1);
+    }
+
+    /**
+     * Readers keep storing responses tagged with the version their read started at while a single writer
+     * invalidates. Between two invalidations the writer must only ever see entries read after the last one.
+     */
+    @Test
+    void put_ShouldNeverUndoInvalidate_WhenInterleaved() throws Exception {
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService readers = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(readers.submit(() -> {
+                while (running.get()) {
+                    long version = cache.version(KEY);
+                    cache.put(KEY, version, response(version));
+                }
+            }));
+        }
+
+        try {
+            for (int i = 0; i < 20_000; i++) {
+                cache.invalidate(ITEM_PATHS);
+                long current = cache.version(KEY);
+                for (int check = 0; check < 10; check++) {
+                    ResponseEntity<Object> cached = cache.get(KEY);
+                    if (cached != null) {
+                        assertThat(versionOf(cached)).isEqualTo(current);
+                    }
+                }
+            }
+        } finally {
+            running.set(false);
+            readers.shutdown();
+        }
+        assertThat(readers.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    private static ResponseEntity<Object> response(long version) {
+        return ResponseEntity.ok(String.valueOf(version).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long versionOf(ResponseEntity<Object> response) {
+        return Long.parseLong(new String((byte[]) response.getBody(), StandardCharsets.UTF_8));
+    }
+}
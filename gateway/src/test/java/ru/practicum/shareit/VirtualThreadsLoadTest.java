@@ -0,0 +1,106 @@
+package ru.practicum.shareit;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Holds thousands of requests in flight through the gateway against a stub server that answers after a delay.
+ * Opt-in because it needs a few thousand file descriptors:
+ * {@code mvn -pl gateway test -Dgateway.load=true -Dgateway.load.clients=4000 -DargLine=-Xmx64m}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.threads.virtual.enabled=true",
+        "server.tomcat.accept-count=10000",
+        "shareit-server.pool.max-total=10000",
+        "shareit-server.pool.max-per-route=10000"
+})
+@EnabledIfSystemProperty(named = "gateway.load", matches = "true")
+public class VirtualThreadsLoadTest {
+
+    private static final int CLIENTS = Integer.getInteger("gateway.load.clients", 2000);
+    private static final long SERVER_DELAY_MS = 1000;
+    private static final byte[] EMPTY_LIST = "[]".getBytes(StandardCharsets.UTF_8);
+
+    private static final AtomicInteger inFlight = new AtomicInteger();
+    private static final AtomicInteger maxInFlight = new AtomicInteger();
+    private static HttpServer stubServer;
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void stubServerUrl(DynamicPropertyRegistry registry) throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), CLIENTS);
+        stubServer.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        stubServer.createContext("/", exchange -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(SERVER_DELAY_MS);
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, EMPTY_LIST.length);
+                try (OutputStream body = exchange.getResponseBody()) {
+                    body.write(EMPTY_LIST);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+                exchange.close();
+            }
+        });
+        stubServer.start();
+        registry.add("shareit-server.url", () -> "http://localhost:" + stubServer.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        stubServer.stop(0);
+    }
+
+    @Test
+    void gateway_ShouldKeepThousandsOfRequestsInFlight_OnVirtualThreads() throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/users")).build();
+
+        long started = System.nanoTime();
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>(CLIENTS);
+        for (int i = 0; i < CLIENTS; i++) {
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+        }
+        CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)).get(2, TimeUnit.MINUTES);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        assertThat(responses).allSatisfy(response -> {
+            assertThat(response.join().statusCode()).isEqualTo(200);
+            assertThat(response.join().body()).isEqualTo("[]");
+        });
+        assertThat(maxInFlight.get()).as("peak in-flight requests at the server, %d ms total", elapsedMs)
+                .isGreaterThanOrEqualTo(CLIENTS * 9 / 10);
+    }
+}
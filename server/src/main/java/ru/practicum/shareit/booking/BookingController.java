@@ -1,21 +1,44 @@
 package ru.practicum.shareit.booking;
 
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 
 import java.nio.file.AccessDeniedException;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 @RestController
 @RequestMapping("/bookings")
 public class BookingController {
 
+    private static final String EXPORT_TIMEOUT = BookingController.class.getName() + ".EXPORT_TIMEOUT";
+
     private final BookingService bookingService;
+    private final BookingExporter bookingExporter;
+    private final CallableProcessingInterceptor exportTimeout;
 
-    public BookingController(BookingService bookingService) {
+    public BookingController(BookingService bookingService, BookingExporter bookingExporter,
+                             @Value("${shareit.booking.export.timeout:30m}") Duration exportTimeout) {
         this.bookingService = bookingService;
+        this.bookingExporter = bookingExporter;
+        this.exportTimeout = new CallableProcessingInterceptor() {
+            @Override
+            public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                if (request instanceof AsyncWebRequest asyncRequest) {
+                    asyncRequest.setTimeout(exportTimeout.toMillis());
+                }
+            }
+        };
     }
 
     @PostMapping
@@ -41,15 +64,30 @@ public class BookingController {
 
     @GetMapping
     public ResponseEntity<List<BookingResponseDto>> getUserBookings(@RequestHeader("X-Sharer-User-Id") Long userId,
-                                                                    @RequestParam(defaultValue = "ALL") String state) {
-        return ResponseEntity.ok(bookingService.getUserBookings(userId, state));
+                                                                    @RequestParam(defaultValue = "ALL") String state,
+                                                                    @RequestParam(defaultValue = "0") int from,
+                                                                    @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(bookingService.getUserBookings(userId, state, from, size));
     }
 
     @GetMapping("/owner")
     public ResponseEntity<List<BookingResponseDto>> getOwnerBookings(@RequestHeader("X-Sharer-User-Id") Long ownerId,
-                                                                     @RequestParam(defaultValue = "ALL") String state) {
-        return ResponseEntity.ok(bookingService.getOwnerBookings(ownerId, state));
+                                                                     @RequestParam(defaultValue = "ALL") String state,
+                                                                     @RequestParam(defaultValue = "0") int from,
+                                                                     @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(bookingService.getOwnerBookings(ownerId, state, from, size));
     }
-}
-
 
+    @GetMapping("/owner/export")
+    public ResponseEntity<StreamingResponseBody> exportOwnerBookings(@RequestHeader("X-Sharer-User-Id") Long ownerId,
+                                                                     @RequestParam(defaultValue = "ndjson") String format,
+                                                                     HttpServletRequest request) {
+        BookingExportFormat exportFormat = BookingExportFormat.from(format);
+        StreamingResponseBody body = bookingExporter.exportOwnerBookings(ownerId, exportFormat);
+        // The export streams for as long as the cursor has rows, so only this request gets the long timeout.
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(EXPORT_TIMEOUT, exportTimeout);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .body(body);
+    }
+}
@@ -0,0 +1,95 @@
+package ru.practicum.shareit.booking;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.user.UserService;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Streams an owner's whole booking history to the response.
+ * <p>
+ * Rows come from a database cursor ({@link BookingRepository#streamByOwner}) as DTO projections, so nothing
+ * accumulates in the persistence context and memory stays flat whatever the row count. The body is written
+ * after the handler returns, so the read-only transaction is opened inside it. JSON lines use the application's
+ * {@link ObjectMapper}, so they match the other endpoints.
+ */
+@Service
+public class BookingExporter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String CSV_HEADER = "id,start,end,status,itemId,itemName,bookerId";
+
+    private final BookingRepository bookingRepository;
+    private final UserService userService;
+    private final ObjectWriter jsonWriter;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public BookingExporter(BookingRepository bookingRepository, UserService userService,
+                           ObjectProvider<ObjectMapper> objectMapper, PlatformTransactionManager transactionManager) {
+        this.bookingRepository = bookingRepository;
+        this.userService = userService;
+        this.jsonWriter = objectMapper.getIfAvailable(() -> Jackson2ObjectMapperBuilder.json().build())
+                .writerFor(BookingResponseDto.class);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Checks the owner before anything is written, so an unknown user still gets a 404 rather than a cut-off body.
+     */
+    public StreamingResponseBody exportOwnerBookings(Long ownerId, BookingExportFormat format) {
+        userService.checkUserExists(ownerId);
+        return out -> readOnlyTransaction.executeWithoutResult(status -> write(ownerId, format, out));
+    }
+
+    private void write(Long ownerId, BookingExportFormat format, OutputStream out) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        try (Stream<BookingResponseDto> bookings = bookingRepository.streamByOwner(ownerId)) {
+            if (format == BookingExportFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+            Iterator<BookingResponseDto> rows = bookings.iterator();
+            while (rows.hasNext()) {
+                BookingResponseDto booking = rows.next();
+                writer.write(format == BookingExportFormat.CSV ? toCsv(booking) : jsonWriter.writeValueAsString(booking));
+                writer.write('\n');
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String toCsv(BookingResponseDto booking) {
+        return booking.getId() + "," + booking.getStart() + "," + booking.getEnd() + "," + booking.getStatus() + ","
+                + booking.getItem().getId() + "," + csvField(booking.getItem().getName()) + ","
+                + booking.getBooker().getId();
+    }
+
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
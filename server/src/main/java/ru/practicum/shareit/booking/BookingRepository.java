@@ -1,26 +1,88 @@
 package ru.practicum.shareit.booking;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
 
-    List<Booking> findAllByBookerId(Long bookerId);
+    @EntityGraph(attributePaths = "item")
+    Optional<Booking> findWithItemById(Long id);
 
-    List<Booking> findAllByItemOwnerId(Long ownerId);
+    String SELECT_RESPONSE = "SELECT new ru.practicum.shareit.booking.dto.BookingResponseDto(" +
+            "b.id, b.start, b.end, b.status, i.id, i.name, b.booker.id) FROM Booking b JOIN b.item i ";
 
-    boolean existsByItemIdAndBookerIdAndEndBefore(Long itemId, Long bookerId, LocalDateTime currentTime);
+    @Query(SELECT_RESPONSE + "WHERE b.booker.id = :bookerId")
+    List<BookingResponseDto> findByBooker(@Param("bookerId") Long bookerId, Pageable pageable);
+
+    @Query(SELECT_RESPONSE + "WHERE b.booker.id = :bookerId AND b.start < :now AND b.end > :now")
+    List<BookingResponseDto> findCurrentByBooker(@Param("bookerId") Long bookerId, @Param("now") LocalDateTime now,
+                                                 Pageable pageable);
+
+    @Query(SELECT_RESPONSE + "WHERE b.booker.id = :bookerId AND b.end < :now")
+    List<BookingResponseDto> findPastByBooker(@Param("bookerId") Long bookerId, @Param("now") LocalDateTime now,
+                                              Pageable pageable);
+
+    @Query(SELECT_RESPONSE + "WHERE b.booker.id = :bookerId AND b.start > :now")
+    List<BookingResponseDto> findFutureByBooker(@Param("bookerId") Long bookerId, @Param("now") LocalDateTime now,
+                                                Pageable pageable);
+
+    @Query(SELECT_RESPONSE + "WHERE b.booker.id = :bookerId AND b.status = :status")
+    List<BookingResponseDto> findByBookerAndStatus(@Param("bookerId") Long bookerId,
+                                                   @Param("status") BookingStatus status, Pageable pageable);
+
+    @Query(SELECT_RESPONSE + "WHERE i.owner.id = :ownerId")
+    List<BookingResponseDto> findByOwner(@Param("ownerId") Long ownerId, Pageable pageable);
+
+    /**
+     * Full history of an owner's bookings as a cursor; must be consumed inside a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_RESPONSE + "WHERE i.owner.id = :ownerId ORDER BY b.start DESC, b.id DESC")
+    Stream<BookingResponseDto> streamByOwner(@Param("ownerId") Long ownerId);
 
-    @Query("SELECT b FROM Booking b WHERE b.item.id = :itemId AND b.end < :now AND b.status = 'APPROVED' ORDER BY b.end DESC LIMIT 1")
-    Booking findLastBooking(@Param("itemId") Long itemId, @Param("now") LocalDateTime now);
+    @Query(SELECT_RESPONSE + "WHERE i.owner.id = :ownerId AND b.start < :now AND b.end > :now")
+    List<BookingResponseDto> findCurrentByOwner(@Param("ownerId") Long ownerId, @Param("now") LocalDateTime now,
+                                                Pageable pageable);
+
+    @Query(SELECT_RESPONSE + "WHERE i.owner.id = :ownerId AND b.end < :now")
+    List<BookingResponseDto> findPastByOwner(@Param("ownerId") Long ownerId, @Param("now") LocalDateTime now,
+                                             Pageable pageable);
+
+    @Query(SELECT_RESPONSE + "WHERE i.owner.id = :ownerId AND b.start > :now")
+    List<BookingResponseDto> findFutureByOwner(@Param("ownerId") Long ownerId, @Param("now") LocalDateTime now,
+                                               Pageable pageable);
+
+    @Query(SELECT_RESPONSE + "WHERE i.owner.id = :ownerId AND b.status = :status")
+    List<BookingResponseDto> findByOwnerAndStatus(@Param("ownerId") Long ownerId, @Param("status") BookingStatus status,
+                                                  Pageable pageable);
+
+    @Query("SELECT CASE WHEN COUNT(b) > 0 THEN true ELSE false END FROM Booking b " +
+            "WHERE b.item.id = :itemId AND b.status IN ('WAITING', 'APPROVED') " +
+            "AND b.start < :end AND b.end > :start")
+    boolean existsOverlapping(@Param("itemId") Long itemId, @Param("start") LocalDateTime start,
+                              @Param("end") LocalDateTime end);
+
+    boolean existsByItemIdAndBookerIdAndEndBefore(Long itemId, Long bookerId, LocalDateTime currentTime);
 
-    @Query("SELECT b FROM Booking b WHERE b.item.id = :itemId AND b.start > :now AND b.status = 'APPROVED' ORDER BY b.start ASC LIMIT 1")
-    Booking findNextBooking(@Param("itemId") Long itemId, @Param("now") LocalDateTime now);
+    @Query("SELECT b FROM Booking b WHERE b.item.id IN :itemIds AND b.status = 'APPROVED' AND (b.end = " +
+            "(SELECT MAX(l.end) FROM Booking l WHERE l.item.id = b.item.id AND l.end < :now AND l.status = 'APPROVED') " +
+            "OR b.start = " +
+            "(SELECT MIN(n.start) FROM Booking n WHERE n.item.id = b.item.id AND n.start > :now AND n.status = 'APPROVED'))")
+    List<Booking> findLastAndNextBookings(@Param("itemIds") Collection<Long> itemIds, @Param("now") LocalDateTime now);
 }
 
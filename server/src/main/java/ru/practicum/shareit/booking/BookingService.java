@@ -17,9 +17,9 @@ public interface BookingService {
     BookingResponseDto getBookingById(Long bookingId, Long userId)
             throws NotFoundException, AccessDeniedException;
 
-    List<BookingResponseDto> getUserBookings(Long userId, String state);
+    List<BookingResponseDto> getUserBookings(Long userId, String state, int from, int size);
 
-    List<BookingResponseDto> getOwnerBookings(Long ownerId, String state);
+    List<BookingResponseDto> getOwnerBookings(Long ownerId, String state, int from, int size);
 }
 
 
@@ -1,58 +1,69 @@
 package ru.practicum.shareit.booking;
 
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.OffsetPageRequest;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.exceptions.ConflictException;
 import ru.practicum.shareit.exceptions.ForbiddenException;
 import ru.practicum.shareit.exceptions.NotFoundException;
 import ru.practicum.shareit.item.ItemService;
 import ru.practicum.shareit.item.dto.BookerDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.model.Item;
-import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserRepository;
 import ru.practicum.shareit.user.UserService;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
+@Observed(name = "shareit.service")
 @RequiredArgsConstructor
 public class BookingServiceImpl implements BookingService {
 
+    private static final Sort SORT_BY_START_DESC = Sort.by(Sort.Direction.DESC, "start")
+            .and(Sort.by(Sort.Direction.DESC, "id"));
+
     private final BookingRepository bookingRepository;
     private final UserService userService;
+    private final UserRepository userRepository;
     private final ItemService itemService;
 
     @Override
+    @Transactional
     public BookingResponseDto addBooking(Long userId, BookingDto bookingDto) {
         if (bookingDto.getItemId() == null) {
             throw new IllegalArgumentException("ID объекта Item не может быть null");
         }
 
-        User booker = userService.getUserById(userId);
-        Item item = itemService.getItemEntityById(bookingDto.getItemId(), userId);
+        if (bookingDto.getStart().isBefore(LocalDateTime.now())) {
+            throw new IllegalArgumentException("Дата начала бронирования не может быть в прошлом");
+        }
 
-        if (item == null) {
-            throw new NotFoundException("Item с id " + bookingDto.getItemId() + " не найден");
+        if (bookingDto.getStart().isEqual(bookingDto.getEnd())) {
+            throw new IllegalArgumentException("Дата начала бронирования не может быть равна дате окончания");
         }
 
+        userService.checkUserExists(userId);
+        Item item = itemService.getItemEntityForUpdate(bookingDto.getItemId());
+
         if (!item.isAvailable()) {
             throw new IllegalStateException("Этот предмет сейчас недоступен для бронирования");
         }
 
-        if (bookingDto.getStart().isBefore(LocalDateTime.now())) {
-            throw new IllegalArgumentException("Дата начала бронирования не может быть в прошлом");
-        }
-
-        if (bookingDto.getStart().isEqual(bookingDto.getEnd())) {
-            throw new IllegalArgumentException("Дата начала бронирования не может быть равна дате окончания");
+        if (bookingRepository.existsOverlapping(item.getId(), bookingDto.getStart(), bookingDto.getEnd())) {
+            throw new ConflictException("Предмет уже забронирован на пересекающийся период");
         }
 
         Booking booking = new Booking();
         booking.setItem(item);
-        booking.setBooker(booker);
+        booking.setBooker(userRepository.getReferenceById(userId));
         booking.setStart(bookingDto.getStart());
         booking.setEnd(bookingDto.getEnd());
         booking.setStatus(BookingStatus.WAITING);
@@ -62,8 +73,9 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
+    @Transactional
     public BookingResponseDto updateBookingStatus(Long bookingId, Long ownerId, boolean approved) {
-        Booking booking = bookingRepository.findById(bookingId)
+        Booking booking = bookingRepository.findWithItemById(bookingId)
                 .orElseThrow(() -> new NotFoundException("Бронирование не найдено"));
 
         if (!booking.getItem().getOwner().getId().equals(ownerId)) {
@@ -75,37 +87,44 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public BookingResponseDto getBookingById(Long bookingId, Long userId) {
-        Booking booking = bookingRepository.findById(bookingId)
+        Booking booking = bookingRepository.findWithItemById(bookingId)
                 .orElseThrow(() -> new NotFoundException("Бронирование не найдено"));
         return toResponse(booking);
     }
 
     @Override
-    public List<BookingResponseDto> getUserBookings(Long userId, String state) {
-        List<Booking> bookings = filterBookingsByState(bookingRepository.findAllByBookerId(userId), state);
-        return bookings.stream().map(this::toResponse).collect(Collectors.toList());
-    }
-
-    @Override
-    public List<BookingResponseDto> getOwnerBookings(Long ownerId, String state) {
-        userService.getUserById(ownerId);
+    @Transactional(readOnly = true)
+    public List<BookingResponseDto> getUserBookings(Long userId, String state, int from, int size) {
+        Pageable pageable = OffsetPageRequest.of(from, size, SORT_BY_START_DESC);
+        LocalDateTime now = LocalDateTime.now();
 
-        List<Booking> bookings = filterBookingsByState(bookingRepository.findAllByItemOwnerId(ownerId), state);
-        return bookings.stream().map(this::toResponse).collect(Collectors.toList());
+        return switch (state) {
+            case "CURRENT" -> bookingRepository.findCurrentByBooker(userId, now, pageable);
+            case "PAST" -> bookingRepository.findPastByBooker(userId, now, pageable);
+            case "FUTURE" -> bookingRepository.findFutureByBooker(userId, now, pageable);
+            case "WAITING" -> bookingRepository.findByBookerAndStatus(userId, BookingStatus.WAITING, pageable);
+            case "REJECTED" -> bookingRepository.findByBookerAndStatus(userId, BookingStatus.REJECTED, pageable);
+            default -> bookingRepository.findByBooker(userId, pageable);
+        };
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookingResponseDto> getOwnerBookings(Long ownerId, String state, int from, int size) {
+        userService.checkUserExists(ownerId);
 
-    private List<Booking> filterBookingsByState(List<Booking> bookings, String state) {
+        Pageable pageable = OffsetPageRequest.of(from, size, SORT_BY_START_DESC);
         LocalDateTime now = LocalDateTime.now();
+
         return switch (state) {
-            case "CURRENT" ->
-                    bookings.stream().filter(b -> b.getStart().isBefore(now) && b.getEnd().isAfter(now)).toList();
-            case "PAST" -> bookings.stream().filter(b -> b.getEnd().isBefore(now)).toList();
-            case "FUTURE" -> bookings.stream().filter(b -> b.getStart().isAfter(now)).toList();
-            case "WAITING" -> bookings.stream().filter(b -> b.getStatus() == BookingStatus.WAITING).toList();
-            case "REJECTED" -> bookings.stream().filter(b -> b.getStatus() == BookingStatus.REJECTED).toList();
-            default -> bookings;
+            case "CURRENT" -> bookingRepository.findCurrentByOwner(ownerId, now, pageable);
+            case "PAST" -> bookingRepository.findPastByOwner(ownerId, now, pageable);
+            case "FUTURE" -> bookingRepository.findFutureByOwner(ownerId, now, pageable);
+            case "WAITING" -> bookingRepository.findByOwnerAndStatus(ownerId, BookingStatus.WAITING, pageable);
+            case "REJECTED" -> bookingRepository.findByOwnerAndStatus(ownerId, BookingStatus.REJECTED, pageable);
+            default -> bookingRepository.findByOwner(ownerId, pageable);
         };
     }
 
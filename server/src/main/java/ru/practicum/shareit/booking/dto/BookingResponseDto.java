@@ -20,5 +20,10 @@ public class BookingResponseDto {
     private BookingStatus status;
     private ItemDto item;
     private BookerDto booker;
+
+    public BookingResponseDto(Long id, LocalDateTime start, LocalDateTime end, BookingStatus status,
+                              Long itemId, String itemName, Long bookerId) {
+        this(id, start, end, status, new ItemDto(itemId, itemName), new BookerDto(bookerId));
+    }
 }
 
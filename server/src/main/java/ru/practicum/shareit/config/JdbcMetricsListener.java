@@ -0,0 +1,84 @@
+package ru.practicum.shareit.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records every JDBC statement sent through the proxied datasource.
+ * <ul>
+ *     <li>{@code shareit.jdbc.query}: statement time by {@code type} (select, insert, update, delete, other),
+ *     {@code batch} and {@code outcome};</li>
+ *     <li>{@code shareit.jdbc.rows}: rows changed by writes, by {@code type}.</li>
+ * </ul>
+ * Meters are registered on first use, so only the combinations the application actually issues are exported.
+ * Which repository method issued the statement is covered by Spring Data's
+ * {@code spring.data.repository.invocations} timer. Rows returned by selects are not counted here, since that would
+ * mean proxying every {@code ResultSet}; {@code shareit.repository.rows} records them per repository method instead.
+ */
+public class JdbcMetricsListener implements QueryExecutionListener {
+
+    private static final String STARTED = "shareit.jdbc.started";
+
+    private final MeterRegistry registry;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<QueryType, Counter> rows = new ConcurrentHashMap<>();
+
+    public JdbcMetricsListener(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(STARTED, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long started = execInfo.getCustomValue(STARTED, Long.class);
+        QueryType type = queryInfoList.isEmpty() ? QueryType.OTHER
+                : QueryUtils.getQueryType(queryInfoList.get(0).getQuery());
+        if (started != null) {
+            timers.computeIfAbsent(new TimerKey(type, execInfo.isBatch(), execInfo.isSuccess()), this::timer)
+                    .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+
+        Object result = execInfo.getResult();
+        if (result instanceof Integer updated && updated > 0) {
+            rows(type).increment(updated);
+        } else if (result instanceof int[] updated) {
+            long total = 0;
+            for (int count : updated) {
+                total += Math.max(count, 0);
+            }
+            rows(type).increment(total);
+        }
+    }
+
+    private Timer timer(TimerKey key) {
+        return Timer.builder("shareit.jdbc.query")
+                .tag("type", key.type().name().toLowerCase())
+                .tag("batch", String.valueOf(key.batch()))
+                .tag("outcome", key.success() ? "success" : "error")
+                .register(registry);
+    }
+
+    private Counter rows(QueryType type) {
+        return rows.computeIfAbsent(type, key -> Counter.builder("shareit.jdbc.rows")
+                .tag("type", key.name().toLowerCase())
+                .register(registry));
+    }
+
+    private record TimerKey(QueryType type, boolean batch, boolean success) {
+    }
+}
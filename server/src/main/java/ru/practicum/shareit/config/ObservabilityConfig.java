@@ -0,0 +1,73 @@
+package ru.practicum.shareit.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.aop.ObservedAspect;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import javax.sql.DataSource;
+
+/**
+ * Metrics and tracing for the server.
+ * <ul>
+ *     <li>Service implementations are {@code @Observed} as {@code shareit.service}: a timer tagged with class, method
+ *     and error, and a span per call.</li>
+ *     <li>Every repository call is observed as {@code shareit.repository}, tagged with repository and method, so
+ *     traces show the time spent below the service; {@code shareit.repository.rows} records how many rows each
+ *     query method returned.</li>
+ *     <li>The application's {@code dataSource} bean is wrapped in a datasource-proxy that times statements and counts
+ *     the rows they change; {@code shareit.jdbc.metrics.enabled=false} turns that off.</li>
+ * </ul>
+ * Registries fall back to the global or no-op ones where no bean exists, as in slice tests.
+ */
+@Configuration
+public class ObservabilityConfig {
+
+    @Bean
+    public ObservedAspect observedAspect(ObjectProvider<ObservationRegistry> registry) {
+        return new ObservedAspect(registry.getIfAvailable(() -> ObservationRegistry.NOOP));
+    }
+
+    @Bean
+    public static BeanPostProcessor repositoryObservationPostProcessor(ObjectProvider<ObservationRegistry> registry,
+                                                                       ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactory) {
+                    repositoryFactory.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, information) -> proxyFactory.addAdvice(new RepositoryObservationInterceptor(
+                                    registry.getIfAvailable(() -> ObservationRegistry.NOOP),
+                                    meterRegistry.getIfAvailable(() -> Metrics.globalRegistry),
+                                    information.getRepositoryInterface()))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "shareit.jdbc.metrics.enabled", havingValue = "true", matchIfMissing = true)
+    public static BeanPostProcessor jdbcMetricsPostProcessor(ObjectProvider<MeterRegistry> registry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                JdbcMetricsListener listener =
+                        new JdbcMetricsListener(registry.getIfAvailable(() -> Metrics.globalRegistry));
+                return ProxyDataSourceBuilder.create(beanName, dataSource)
+                        .listener(listener)
+                        .build();
+            }
+        };
+    }
+}
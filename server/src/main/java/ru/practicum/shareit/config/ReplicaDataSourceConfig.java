@@ -0,0 +1,116 @@
+package ru.practicum.shareit.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read/write splitting, active when {@code shareit.datasource.replicas.urls} lists at least one replica.
+ * <p>
+ * {@code spring.datasource} stays the primary. Replicas reuse its driver and pool size and take their
+ * credentials from {@code shareit.datasource.replicas.username}/{@code password}. Read-only transactions use the
+ * second-level cache for reads only, so replica rows never reach it.
+ */
+@Configuration
+@ConditionalOnExpression("!'${shareit.datasource.replicas.urls:}'.isBlank()")
+public class ReplicaDataSourceConfig {
+
+    /**
+     * Lag in seconds: zero on a server that is not replaying WAL (a stand-in replica) or has replayed all it
+     * received, otherwise the age of the last replayed commit.
+     */
+    private static final String POSTGRES_LAG_QUERY = "SELECT CASE WHEN NOT pg_is_in_recovery() "
+            + "OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${shareit.datasource.replicas.urls}") List<String> urls,
+            @Value("${shareit.datasource.replicas.username:${spring.datasource.username:}}") String username,
+            @Value("${shareit.datasource.replicas.password:${spring.datasource.password:}}") String password,
+            @Value("${shareit.datasource.replicas.max-lag:5s}") Duration maxLag,
+            @Value("${shareit.datasource.replicas.check-interval:1s}") Duration checkInterval) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + (i + 1));
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setJdbcUrl(urls.get(i).trim());
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setMaximumPoolSize(primaryDataSource.getMaximumPoolSize());
+            replica.setReadOnly(true);
+            meterRegistry.ifAvailable(registry -> replica.setMetricsTrackerFactory(
+                    new MicrometerMetricsTrackerFactory(registry)));
+            replicas.put(replica.getPoolName(), replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, POSTGRES_LAG_QUERY, maxLag, checkInterval);
+    }
+
+    /**
+     * Defers fetching a physical connection until the first statement, when the transaction's read-only flag
+     * is already known to the router.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    /**
+     * With open-in-view the session would otherwise hold the first connection it got for the whole request, so a
+     * write after a read-only transaction could land on a replica.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    /**
+     * Keeps what read-only transactions load from a replica out of the shared second-level cache; see
+     * {@link ReplicaCacheJpaDialect}. The dialect is set before the factory initializes, so the vendor adapter's
+     * default does not replace it and the transaction manager picks it up from the factory.
+     */
+    @Bean
+    public static BeanPostProcessor replicaCacheDialectPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof AbstractEntityManagerFactoryBean entityManagerFactory) {
+                    entityManagerFactory.setJpaDialect(new ReplicaCacheJpaDialect());
+                }
+                return bean;
+            }
+        };
+    }
+}
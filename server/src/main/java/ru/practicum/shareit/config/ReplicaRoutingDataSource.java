@@ -0,0 +1,124 @@
+package ru.practicum.shareit.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to a replica and everything else to the primary.
+ * <p>
+ * A background check runs {@code lagQuery} on every replica each {@code checkInterval}; the query returns the
+ * replica's lag in seconds. Replicas that lag more than {@code maxLag} or fail the check are skipped until they
+ * catch up, and with no replica in rotation read-only transactions fall back to the primary. The routing key is
+ * resolved when the connection is fetched, so this must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private static final String PRIMARY = "primary";
+
+    private final Map<String, DataSource> replicas;
+    private final String lagQuery;
+    private final Duration maxLag;
+    private final Duration checkInterval;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService lagCheck = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "replica-lag-check");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile List<String> inRotation = List.of();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, String lagQuery,
+                                    Duration maxLag, Duration checkInterval) {
+        this.replicas = replicas;
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+        this.checkInterval = checkInterval;
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        checkReplicas();
+        lagCheck.scheduleWithFixedDelay(this::checkReplicas, checkInterval.toMillis(), checkInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        List<String> candidates = inRotation;
+        if (candidates.isEmpty()) {
+            return PRIMARY;
+        }
+        return candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+    }
+
+    private void checkReplicas() {
+        List<String> healthy = new ArrayList<>();
+        replicas.forEach((name, replica) -> {
+            boolean wasInRotation = inRotation.contains(name);
+            try {
+                double lagSeconds = lagSeconds(replica);
+                if (lagSeconds * 1000 <= maxLag.toMillis()) {
+                    healthy.add(name);
+                    if (!wasInRotation) {
+                        log.info("Replica {} is in rotation, lag {}s", name, lagSeconds);
+                    }
+                } else if (wasInRotation) {
+                    log.warn("Replica {} is out of rotation, lag {}s exceeds {}", name, lagSeconds, maxLag);
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (wasInRotation) {
+                    log.warn("Replica {} is out of rotation, lag check failed: {}", name, e.getMessage());
+                }
+            }
+        });
+        inRotation = List.copyOf(healthy);
+    }
+
+    private double lagSeconds(DataSource replica) throws SQLException {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            if (!resultSet.next()) {
+                throw new SQLException("Запрос задержки реплики не вернул строк");
+            }
+            return resultSet.getDouble(1);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        lagCheck.shutdownNow();
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
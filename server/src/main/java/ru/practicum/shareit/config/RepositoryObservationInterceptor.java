@@ -0,0 +1,75 @@
+package ru.practicum.shareit.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.data.domain.Slice;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wraps each repository call in a {@code shareit.repository} observation, named {@code Repository#method} in traces.
+ * Streams are observed until they are returned, not until they are consumed.
+ * <p>
+ * Rows returned by query methods are recorded in {@code shareit.repository.rows}, tagged with repository and method,
+ * from the size of the returned list, page or optional. Streams, scalar results and {@code save}/{@code delete}
+ * methods are not counted.
+ */
+class RepositoryObservationInterceptor implements MethodInterceptor {
+
+    private final ObservationRegistry registry;
+    private final MeterRegistry meterRegistry;
+    private final String repository;
+    private final Map<Method, DistributionSummary> rows = new ConcurrentHashMap<>();
+
+    RepositoryObservationInterceptor(ObservationRegistry registry, MeterRegistry meterRegistry,
+                                     Class<?> repositoryInterface) {
+        this.registry = registry;
+        this.meterRegistry = meterRegistry;
+        this.repository = repositoryInterface.getSimpleName();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        String method = invocation.getMethod().getName();
+        Object result = Observation.createNotStarted("shareit.repository", registry)
+                .contextualName(repository + "#" + method)
+                .lowCardinalityKeyValue("repository", repository)
+                .lowCardinalityKeyValue("method", method)
+                .observeChecked(invocation::proceed);
+        if (!method.startsWith("save") && !method.startsWith("delete")) {
+            long count = rowCount(result);
+            if (count >= 0) {
+                rows.computeIfAbsent(invocation.getMethod(), this::rows).record(count);
+            }
+        }
+        return result;
+    }
+
+    private DistributionSummary rows(Method method) {
+        return DistributionSummary.builder("shareit.repository.rows")
+                .tag("repository", repository)
+                .tag("method", method.getName())
+                .register(meterRegistry);
+    }
+
+    private static long rowCount(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return -1;
+    }
+}
@@ -1,9 +1,16 @@
 package ru.practicum.shareit.item;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    List<Comment> findByItemId(Long itemId);
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.item.id = :itemId")
+    List<Comment> findByItemId(@Param("itemId") Long itemId);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.item.id IN :itemIds")
+    List<Comment> findByItemIds(@Param("itemIds") Collection<Long> itemIds);
 }
@@ -1,10 +1,13 @@
 package ru.practicum.shareit.item;
 
 import org.apache.coyote.BadRequestException;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.item.dto.ItemDto;
 
+import java.io.InputStream;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/items")
@@ -12,9 +15,13 @@ public class ItemController {
 
     private static final String USER_ID_HEADER = "X-Sharer-User-Id";
     private final ItemService itemService;
+    private final ItemImporter itemImporter;
+    private final ItemReadCoalescer itemReads;
 
-    public ItemController(ItemService itemService) {
+    public ItemController(ItemService itemService, ItemImporter itemImporter, ItemReadCoalescer itemReads) {
         this.itemService = itemService;
+        this.itemImporter = itemImporter;
+        this.itemReads = itemReads;
     }
 
     @PostMapping
@@ -22,6 +29,11 @@ public class ItemController {
         return itemService.addItem(ownerId, itemDto);
     }
 
+    @PostMapping(path = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public Map<String, Long> importItems(@RequestHeader(USER_ID_HEADER) Long ownerId, InputStream body) {
+        return Map.of("imported", itemImporter.importItems(ownerId, body));
+    }
+
     @PatchMapping("/{itemId}")
     public ItemDto updateItem(@RequestHeader(USER_ID_HEADER) Long ownerId,
                               @PathVariable Long itemId,
@@ -31,17 +43,14 @@ public class ItemController {
 
     @GetMapping
     public List<ItemDto> getAllItemsByOwner(@RequestHeader(USER_ID_HEADER) Long ownerId) {
-        List<ItemDto> items = itemService.getAllItemsByOwner(ownerId);
-        for (ItemDto itemDto : items) {
-            List<CommentDto> comments = itemService.getCommentsByItemId(itemDto.getId());
-            itemDto.setComments(comments);
-        }
-        return items;
+        return itemService.getAllItemsByOwner(ownerId);
     }
 
     @GetMapping("/search")
-    public List<ItemDto> searchItems(@RequestParam String text) {
-        return itemService.searchItems(text);
+    public List<ItemDto> searchItems(@RequestParam String text,
+                                     @RequestParam(defaultValue = "0") int from,
+                                     @RequestParam(defaultValue = "10") int size) {
+        return itemReads.searchItems(text, from, size);
     }
 
     @PostMapping("/{itemId}/comment")
@@ -55,9 +64,6 @@ public class ItemController {
     @GetMapping("/{itemId}")
     public ItemDto getItemById(@PathVariable Long itemId,
                                @RequestHeader("X-Sharer-User-Id") Long userId) {
-        ItemDto itemDto = itemService.getItemById(itemId, userId);
-        List<CommentDto> comments = itemService.getCommentsByItemId(itemId);
-        itemDto.setComments(comments);
-        return itemDto;
+        return itemReads.getItemById(itemId, userId);
     }
 }
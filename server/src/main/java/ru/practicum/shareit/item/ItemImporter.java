@@ -0,0 +1,134 @@
+package ru.practicum.shareit.item;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.exceptions.BadRequestException;
+import ru.practicum.shareit.exceptions.NotFoundException;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.ItemRequest;
+import ru.practicum.shareit.request.ItemRequestRepository;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserRepository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Imports items from an NDJSON stream, one {@link ItemDto} per line.
+ * <p>
+ * Rows are read one at a time outside any transaction and written in chunks of {@value #CHUNK_SIZE}, each in its
+ * own transaction: the chunk is persisted through the session, sent as JDBC batches on flush and committed, so
+ * neither the persistence context nor the transaction grows with the file. A bad line rolls back only its own
+ * chunk; the chunks before it stay imported. The search index picks up each chunk once it is committed. Lines are
+ * read with the application's {@link ObjectMapper}, so they accept what the other endpoints accept.
+ */
+@Service
+public class ItemImporter {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final EntityManager entityManager;
+    private final UserRepository userRepository;
+    private final ItemRequestRepository itemRequestRepository;
+    private final ItemSearchIndex searchIndex;
+    private final ObjectReader itemReader;
+    private final TransactionTemplate chunkTransaction;
+
+    public ItemImporter(EntityManager entityManager, UserRepository userRepository,
+                        ItemRequestRepository itemRequestRepository, ItemSearchIndex searchIndex,
+                        ObjectProvider<ObjectMapper> objectMapper, PlatformTransactionManager transactionManager) {
+        this.entityManager = entityManager;
+        this.userRepository = userRepository;
+        this.itemRequestRepository = itemRequestRepository;
+        this.searchIndex = searchIndex;
+        this.itemReader = objectMapper.getIfAvailable(() -> Jackson2ObjectMapperBuilder.json().build())
+                .readerFor(ItemDto.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    public long importItems(Long ownerId, InputStream ndjson) {
+        if (!userRepository.existsById(ownerId)) {
+            throw new NotFoundException("Пользователь с id " + ownerId + " не найден.");
+        }
+
+        Set<Long> knownRequests = new HashSet<>();
+        List<ItemDto> chunk = new ArrayList<>(CHUNK_SIZE);
+        long line = 0;
+        try (MappingIterator<ItemDto> rows = itemReader.readValues(ndjson)) {
+            while (rows.hasNextValue()) {
+                chunk.add(rows.nextValue());
+                line++;
+                if (chunk.size() == CHUNK_SIZE) {
+                    importChunk(chunk, ownerId, knownRequests, line - chunk.size());
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new BadRequestException("Строка " + (line + 1) + ": некорректный JSON.");
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, ownerId, knownRequests, line - chunk.size());
+        }
+        return line;
+    }
+
+    private void importChunk(List<ItemDto> chunk, Long ownerId, Set<Long> knownRequests, long linesBefore) {
+        long[] idRange = chunkTransaction.execute(status -> {
+            entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+            long minId = Long.MAX_VALUE;
+            long maxId = Long.MIN_VALUE;
+            long line = linesBefore;
+            for (ItemDto itemDto : chunk) {
+                Item item = toItem(itemDto, ownerId, knownRequests, ++line);
+                entityManager.persist(item);
+                minId = Math.min(minId, item.getId());
+                maxId = Math.max(maxId, item.getId());
+            }
+            entityManager.flush();
+            entityManager.clear();
+            return new long[]{minId, maxId};
+        });
+        searchIndex.indexRange(idRange[0], idRange[1]);
+    }
+
+    private Item toItem(ItemDto itemDto, Long ownerId, Set<Long> knownRequests, long line) {
+        if (itemDto.getAvailable() == null) {
+            throw new BadRequestException("Строка " + line + ": поле 'доступность' должно быть указано.");
+        }
+        if (itemDto.getName() == null || itemDto.getName().isBlank()) {
+            throw new BadRequestException("Строка " + line + ": поле 'name' не может быть пустым.");
+        }
+
+        Item item = ItemMapper.toEntity(itemDto);
+        item.setId(null);
+        item.setOwner(entityManager.getReference(User.class, ownerId));
+
+        Long requestId = itemDto.getRequestId();
+        if (requestId != null) {
+            if (!knownRequests.contains(requestId)) {
+                if (!itemRequestRepository.existsById(requestId)) {
+                    throw new NotFoundException("Строка " + line + ": запрос с id " + requestId + " не найден.");
+                }
+                knownRequests.add(requestId);
+            }
+            item.setItemRequest(entityManager.getReference(ItemRequest.class, requestId));
+        }
+        return item;
+    }
+}
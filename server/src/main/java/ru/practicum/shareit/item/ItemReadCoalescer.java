@@ -0,0 +1,50 @@
+package ru.practicum.shareit.item;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import java.util.List;
+
+/**
+ * Coalesces concurrent identical item reads in front of {@link ItemService}. It runs outside any transaction, so
+ * callers waiting for a running read hold neither a transaction nor a pooled connection; only the call that runs
+ * opens one.
+ * <p>
+ * Calls are coalesced only when they return the same result: an item read by item and viewer, since the owner
+ * also gets booking dates, and a search by normalized text and page.
+ */
+@Component
+public class ItemReadCoalescer {
+
+    private final ItemService itemService;
+    private final SingleFlight<ItemKey, ItemDto> itemReads;
+    private final SingleFlight<SearchKey, List<ItemDto>> searches;
+
+    public ItemReadCoalescer(ItemService itemService, ObjectProvider<MeterRegistry> registry) {
+        this.itemService = itemService;
+        MeterRegistry meterRegistry = registry.getIfAvailable(() -> Metrics.globalRegistry);
+        this.itemReads = new SingleFlight<>("item.get", meterRegistry);
+        this.searches = new SingleFlight<>("item.search", meterRegistry);
+    }
+
+    public ItemDto getItemById(Long itemId, Long userId) {
+        return itemReads.execute(new ItemKey(itemId, userId), () -> itemService.getItemById(itemId, userId));
+    }
+
+    public List<ItemDto> searchItems(String text, int from, int size) {
+        if (text == null || text.isBlank()) {
+            return itemService.searchItems(text, from, size);
+        }
+        return searches.execute(new SearchKey(text.trim().toLowerCase(), from, size),
+                () -> itemService.searchItems(text, from, size));
+    }
+
+    private record ItemKey(Long itemId, Long userId) {
+    }
+
+    private record SearchKey(String text, int from, int size) {
+    }
+}
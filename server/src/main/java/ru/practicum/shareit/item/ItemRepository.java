@@ -1,22 +1,42 @@
 package ru.practicum.shareit.item;
 
-import org.springframework.data.domain.Page;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.dto.ItemResponseView;
 
 import org.springframework.data.domain.Pageable;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ItemRepository extends JpaRepository<Item, Long> {
 
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<Item> findByOwnerId(Long ownerId);
 
-    List<Item> findByNameContainingIgnoreCaseAndAvailableTrue(String name);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Item i WHERE i.id = :itemId")
+    Optional<Item> findByIdForUpdate(@Param("itemId") Long itemId);
 
-    List<Item> findByItemRequest_Id(Long requestId);
+    @Query("SELECT i FROM Item i WHERE i.available = true " +
+            "AND (LOWER(i.name) LIKE CONCAT('%', :text, '%') ESCAPE '\\' " +
+            "OR LOWER(i.description) LIKE CONCAT('%', :text, '%') ESCAPE '\\') " +
+            "ORDER BY CASE WHEN LOWER(i.name) LIKE CONCAT('%', :text, '%') ESCAPE '\\' THEN 0 ELSE 1 END, i.id")
+    List<Item> searchAvailable(@Param("text") String text, Pageable pageable);
 
-    @Query("SELECT i FROM Item i WHERE i.owner.id <> :userId")
-    Page<Item> findAllExcludingUser(@Param("userId") Long userId, Pageable pageable);
+    @Query("SELECT new ru.practicum.shareit.item.dto.ItemDto(i.id, i.name, i.description, i.available) " +
+            "FROM Item i WHERE i.id > :afterId ORDER BY i.id")
+    List<ItemDto> findSearchableAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT i.itemRequest.id AS requestId, i.id AS id, i.name AS name, i.owner.id AS ownerId " +
+            "FROM Item i WHERE i.itemRequest.id IN :requestIds")
+    List<ItemResponseView> findResponsesByRequestIds(@Param("requestIds") Collection<Long> requestIds);
 }
@@ -0,0 +1,327 @@
+package ru.practicum.shareit.item;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over item names and descriptions.
+ * <p>
+ * Every token gets an ordinal; postings are sorted {@code int[]} arrays of item ids per ordinal, and
+ * availability is a {@link BitSet} keyed by item id. A query token matches every indexed token it is a
+ * prefix of, and all query tokens must match; the matches of one query token are collected into a
+ * {@link BitSet}, so a short prefix costs one pass over the postings it covers. Enabled with
+ * {@code shareit.search.index.enabled=true}.
+ * <p>
+ * Results differ from the database search it replaces: the database matches the whole text as a substring of the
+ * name or description and lists name matches first, while the index matches word prefixes, so "rill" finds
+ * nothing and "cordless drill" finds items with both words anywhere, and lists matches by id.
+ * <p>
+ * Items written while a load from the database runs keep their newer state: the load skips them.
+ */
+@Slf4j
+@Component
+public class ItemSearchIndex {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int[] NO_TOKENS = new int[0];
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final ItemRepository itemRepository;
+    private final boolean enabled;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final NavigableMap<String, Integer> dictionary = new TreeMap<>();
+    private int[][] postings = new int[1024][];
+    private int[] postingSizes = new int[1024];
+    private int[][] tokensByItem = new int[1024][];
+    private final BitSet available = new BitSet();
+    private final BitSet updatedDuringLoad = new BitSet();
+    private int loadsInProgress;
+
+    public ItemSearchIndex(ItemRepository itemRepository,
+                           @Value("${shareit.search.index.enabled:false}") boolean enabled) {
+        this.itemRepository = itemRepository;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long started = System.nanoTime();
+        int count = load(0, Long.MAX_VALUE);
+
+        log.info("Item search index built: {} items, {} tokens, ~{} KB in {} ms",
+                count, dictionary.size(), memoryFootprintBytes() / 1024, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Adds or refreshes the item once the current transaction commits, so a rolled-back write never becomes
+     * searchable; outside a transaction the item is indexed right away.
+     */
+    public void index(Item item) {
+        if (enabled) {
+            Long itemId = item.getId();
+            String name = item.getName();
+            String description = item.getDescription();
+            boolean isAvailable = item.isAvailable();
+            afterCommit(() -> index(itemId, name, description, isAvailable, false));
+        }
+    }
+
+    /**
+     * Loads the items with ids from {@code fromId} to {@code toId} from the database once the current transaction
+     * commits. Used by bulk imports, which would otherwise have to hold every imported row until then.
+     */
+    public void indexRange(long fromId, long toId) {
+        if (enabled) {
+            afterCommit(() -> load(fromId - 1, toId));
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private int load(long afterId, long toId) {
+        lock.writeLock().lock();
+        try {
+            loadsInProgress++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            int count = 0;
+            List<ItemDto> batch;
+            do {
+                batch = itemRepository.findSearchableAfter(afterId, PageRequest.of(0, LOAD_BATCH_SIZE));
+                for (ItemDto item : batch) {
+                    if (item.getId() > toId) {
+                        return count;
+                    }
+                    index(item.getId(), item.getName(), item.getDescription(), item.getAvailable(), true);
+                    afterId = item.getId();
+                    count++;
+                }
+            } while (batch.size() == LOAD_BATCH_SIZE);
+            return count;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (--loadsInProgress == 0) {
+                    updatedDuringLoad.clear();
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    public List<Long> search(String text, int from, int size) {
+        String[] queryTokens = tokenize(text);
+        if (queryTokens.length == 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            BitSet matches = null;
+            for (String token : queryTokens) {
+                BitSet tokenMatches = prefixMatches(token);
+                if (matches == null) {
+                    matches = tokenMatches;
+                } else {
+                    matches.and(tokenMatches);
+                }
+                if (matches.isEmpty()) {
+                    return List.of();
+                }
+            }
+            matches.and(available);
+
+            List<Long> page = new ArrayList<>(size);
+            int skipped = 0;
+            for (int id = matches.nextSetBit(0); id >= 0 && page.size() < size; id = matches.nextSetBit(id + 1)) {
+                if (skipped++ >= from) {
+                    page.add((long) id);
+                }
+            }
+            return page;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long memoryFootprintBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = (long) postings.length * 8 + (long) postingSizes.length * 4 + (long) tokensByItem.length * 8;
+            for (int ordinal = 0; ordinal < dictionary.size(); ordinal++) {
+                bytes += 16 + (long) postings[ordinal].length * 4;
+            }
+            for (int[] tokens : tokensByItem) {
+                if (tokens != null) {
+                    bytes += 16 + (long) tokens.length * 4;
+                }
+            }
+            for (String token : dictionary.keySet()) {
+                bytes += 40 + token.length() * 2L + 48;
+            }
+            return bytes + (available.size() + updatedDuringLoad.size()) / 8;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void index(Long itemId, String name, String description, Boolean isAvailable, boolean loaded) {
+        int id = toIndex(itemId);
+        String[] words = tokenize(name + " " + (description == null ? "" : description));
+
+        lock.writeLock().lock();
+        try {
+            if (loaded && updatedDuringLoad.get(id)) {
+                return;
+            }
+            if (!loaded && loadsInProgress > 0) {
+                updatedDuringLoad.set(id);
+            }
+            int[] tokens = ordinals(words);
+            ensureItemCapacity(id);
+            int[] previous = tokensByItem[id] == null ? NO_TOKENS : tokensByItem[id];
+            for (int ordinal : previous) {
+                if (Arrays.binarySearch(tokens, ordinal) < 0) {
+                    removePosting(ordinal, id);
+                }
+            }
+            for (int ordinal : tokens) {
+                if (Arrays.binarySearch(previous, ordinal) < 0) {
+                    addPosting(ordinal, id);
+                }
+            }
+            tokensByItem[id] = tokens;
+            available.set(id, Boolean.TRUE.equals(isAvailable));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int[] ordinals(String[] tokens) {
+        int[] result = new int[tokens.length];
+        for (int i = 0; i < tokens.length; i++) {
+            Integer ordinal = dictionary.get(tokens[i]);
+            if (ordinal == null) {
+                ordinal = dictionary.size();
+                dictionary.put(tokens[i], ordinal);
+                ensureTokenCapacity(ordinal);
+                postings[ordinal] = new int[4];
+            }
+            result[i] = ordinal;
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    private BitSet prefixMatches(String prefix) {
+        BitSet matches = new BitSet(tokensByItem.length);
+        for (int ordinal : dictionary.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            int[] list = postings[ordinal];
+            for (int i = 0, size = postingSizes[ordinal]; i < size; i++) {
+                matches.set(list[i]);
+            }
+        }
+        return matches;
+    }
+
+    private void addPosting(int ordinal, int itemId) {
+        int[] list = postings[ordinal];
+        int size = postingSizes[ordinal];
+        int position = size == 0 || list[size - 1] < itemId ? size : Arrays.binarySearch(list, 0, size, itemId);
+        if (position < 0) {
+            position = -position - 1;
+        } else if (position < size) {
+            return;
+        }
+        if (size == list.length) {
+            list = Arrays.copyOf(list, size * 2);
+            postings[ordinal] = list;
+        }
+        System.arraycopy(list, position, list, position + 1, size - position);
+        list[position] = itemId;
+        postingSizes[ordinal] = size + 1;
+    }
+
+    private void removePosting(int ordinal, int itemId) {
+        int[] list = postings[ordinal];
+        int size = postingSizes[ordinal];
+        int position = Arrays.binarySearch(list, 0, size, itemId);
+        if (position >= 0) {
+            System.arraycopy(list, position + 1, list, position, size - position - 1);
+            postingSizes[ordinal] = size - 1;
+        }
+    }
+
+    private void ensureTokenCapacity(int ordinal) {
+        if (ordinal >= postings.length) {
+            int capacity = Math.max(postings.length * 2, ordinal + 1);
+            postings = Arrays.copyOf(postings, capacity);
+            postingSizes = Arrays.copyOf(postingSizes, capacity);
+        }
+    }
+
+    private void ensureItemCapacity(int id) {
+        if (id >= tokensByItem.length) {
+            tokensByItem = Arrays.copyOf(tokensByItem, Math.max(tokensByItem.length * 2, id + 1));
+        }
+    }
+
+    private static int toIndex(Long itemId) {
+        if (itemId == null || itemId < 0 || itemId > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Item id " + itemId + " не поддерживается поисковым индексом");
+        }
+        return itemId.intValue();
+    }
+
+    private static String[] tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return new String[0];
+        }
+        return Arrays.stream(TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .toArray(String[]::new);
+    }
+}
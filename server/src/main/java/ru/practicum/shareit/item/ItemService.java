@@ -16,11 +16,11 @@ public interface ItemService {
 
     List<ItemDto> getAllItemsByOwner(Long ownerId);
 
-    List<ItemDto> searchItems(String text);
+    List<ItemDto> searchItems(String text, int from, int size);
 
     CommentDto addComment(Long itemId, Long userId, CommentDto commentDto);
 
     List<CommentDto> getCommentsByItemId(Long itemId);
 
-    Item getItemEntityById(Long itemId, Long userId);
+    Item getItemEntityForUpdate(Long itemId);
 }
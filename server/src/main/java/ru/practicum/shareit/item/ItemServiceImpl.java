@@ -1,7 +1,9 @@
 package ru.practicum.shareit.item;
 
-import jakarta.transaction.Transactional;
+import io.micrometer.observation.annotation.Observed;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.OffsetPageRequest;
 import ru.practicum.shareit.booking.Booking;
 import ru.practicum.shareit.booking.BookingRepository;
 import ru.practicum.shareit.exceptions.BadRequestException;
@@ -9,17 +11,20 @@ import ru.practicum.shareit.exceptions.ForbiddenException;
 import ru.practicum.shareit.exceptions.NotFoundException;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.model.Item;
-import ru.practicum.shareit.request.ItemRequest;
 import ru.practicum.shareit.request.ItemRequestRepository;
 import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.UserRepository;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
+@Observed(name = "shareit.service")
 public class ItemServiceImpl implements ItemService {
 
     private final ItemRepository itemRepository;
@@ -28,21 +33,26 @@ public class ItemServiceImpl implements ItemService {
     private final BookingRepository bookingRepository;
     private final CommentRepository commentRepository;
     private final ItemRequestRepository itemRequestRepository;
+    private final ItemSearchIndex searchIndex;
 
 
     public ItemServiceImpl(ItemRepository itemRepository, UserRepository userRepository, BookingRepository bookingRepository,
-                           CommentRepository commentRepository, ItemRequestRepository itemRequestRepository) {
+                           CommentRepository commentRepository, ItemRequestRepository itemRequestRepository,
+                           ItemSearchIndex searchIndex) {
         this.itemRepository = itemRepository;
         this.userRepository = userRepository;
         this.bookingRepository = bookingRepository;
         this.commentRepository = commentRepository;
         this.itemRequestRepository = itemRequestRepository;
+        this.searchIndex = searchIndex;
     }
 
     @Override
+    @Transactional
     public ItemDto addItem(Long ownerId, ItemDto itemDto) throws BadRequestException {
-        User owner = userRepository.findById(ownerId)
-                .orElseThrow(() -> new NotFoundException("Пользователь с id " + ownerId + " не найден."));
+        if (!userRepository.existsById(ownerId)) {
+            throw new NotFoundException("Пользователь с id " + ownerId + " не найден.");
+        }
 
         if (itemDto.getAvailable() == null) {
             throw new BadRequestException("Поле 'доступность' должно быть указано.");
@@ -53,19 +63,22 @@ public class ItemServiceImpl implements ItemService {
         }
 
         Item item = ItemMapper.toEntity(itemDto);
-        item.setOwner(owner);
+        item.setOwner(userRepository.getReferenceById(ownerId));
 
         if (itemDto.getRequestId() != null) {
-            ItemRequest itemRequest = itemRequestRepository.findById(itemDto.getRequestId())
-                    .orElseThrow(() -> new NotFoundException("Запрос с id " + itemDto.getRequestId() + " не найден."));
-            item.setItemRequest(itemRequest);
+            if (!itemRequestRepository.existsById(itemDto.getRequestId())) {
+                throw new NotFoundException("Запрос с id " + itemDto.getRequestId() + " не найден.");
+            }
+            item.setItemRequest(itemRequestRepository.getReferenceById(itemDto.getRequestId()));
         }
 
         item = itemRepository.save(item);
+        searchIndex.index(item);
         return ItemMapper.toItemDto(item);
     }
 
     @Override
+    @Transactional
     public ItemDto updateItem(Long ownerId, Long itemId, ItemDto itemDto) {
         Item item = itemRepository.findById(itemId)
                 .orElseThrow(() -> new NotFoundException("Item с id " + itemId + " не найден."));
@@ -85,30 +98,54 @@ public class ItemServiceImpl implements ItemService {
         }
 
         item = itemRepository.save(item);
+        searchIndex.index(item);
         return toItemDto(item);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ItemDto getItemById(Long itemId, Long userId) {
         Item item = itemRepository.findById(itemId)
                 .orElseThrow(() -> new NotFoundException("Item с ID " + itemId + " не найден."));
-        ItemDto itemDto = toItemDtoWithBookings(item, userId);
+        boolean isOwner = item.getOwner().getId().equals(userId);
 
-        return itemDto;
+        return toItemDtosWithBookings(List.of(item), isOwner).get(0);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ItemDto> getAllItemsByOwner(Long ownerId) {
         List<Item> items = itemRepository.findByOwnerId(ownerId);
-        return items.stream().map(ItemMapper::toItemDto).collect(Collectors.toList());
+        if (items.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return toItemDtosWithBookings(items, true);
     }
 
-    public List<ItemDto> searchItems(String text) {
+    @Override
+    @Transactional(readOnly = true)
+    public List<ItemDto> searchItems(String text, int from, int size) {
         if (text == null || text.isBlank()) {
             return Collections.emptyList();
         }
+        OffsetPageRequest page = OffsetPageRequest.of(from, size);
+        String normalizedText = text.trim().toLowerCase();
+
+        if (searchIndex.isEnabled()) {
+            List<Long> ids = searchIndex.search(normalizedText, (int) page.getOffset(), page.getPageSize());
+            if (ids.isEmpty()) {
+                return Collections.emptyList();
+            }
+            Map<Long, Item> itemsById = itemRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(Item::getId, item -> item));
+            return ids.stream()
+                    .map(itemsById::get)
+                    .filter(Objects::nonNull)
+                    .map(this::toItemDto)
+                    .collect(Collectors.toList());
+        }
 
-        List<Item> items = itemRepository.findByNameContainingIgnoreCaseAndAvailableTrue(text);
+        List<Item> items = itemRepository.searchAvailable(escapeLike(normalizedText), page);
 
         return items.stream()
                 .map(this::toItemDto)
@@ -135,6 +172,7 @@ public class ItemServiceImpl implements ItemService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<CommentDto> getCommentsByItemId(Long itemId) {
         List<Comment> comments = commentRepository.findByItemId(itemId);
         return comments.stream().map(this::toCommentDto).collect(Collectors.toList());
@@ -150,31 +188,46 @@ public class ItemServiceImpl implements ItemService {
         return dto;
     }
 
-    private ItemDto toItemDtoWithBookings(Item item, Long userId) {
-        ItemDto dto = toItemDto(item);
+    private List<ItemDto> toItemDtosWithBookings(List<Item> items, boolean withBookings) {
+        List<Long> itemIds = items.stream().map(Item::getId).toList();
         LocalDateTime now = LocalDateTime.now();
 
-        boolean isOwner = item.getOwner().getId().equals(userId);
-
-        if (isOwner) {
-            Booking lastBooking = bookingRepository.findLastBooking(item.getId(), now);
-            Booking nextBooking = bookingRepository.findNextBooking(item.getId(), now);
-
-            if (lastBooking != null) {
-                dto.setLastBooking(lastBooking.getStart());
-            }
-
-            if (nextBooking != null) {
-                dto.setNextBooking(nextBooking.getStart());
+        Map<Long, LocalDateTime> lastBookings = new HashMap<>();
+        Map<Long, LocalDateTime> nextBookings = new HashMap<>();
+        if (withBookings) {
+            for (Booking booking : bookingRepository.findLastAndNextBookings(itemIds, now)) {
+                Long itemId = booking.getItem().getId();
+                if (booking.getEnd().isBefore(now)) {
+                    lastBookings.putIfAbsent(itemId, booking.getStart());
+                } else {
+                    nextBookings.putIfAbsent(itemId, booking.getStart());
+                }
             }
         }
 
-        List<Comment> comments = commentRepository.findByItemId(item.getId());
-        dto.setComments(comments.stream().map(this::toCommentDto).collect(Collectors.toList()));
+        Map<Long, List<CommentDto>> comments = commentRepository.findByItemIds(itemIds).stream()
+                .collect(Collectors.groupingBy(c -> c.getItem().getId(),
+                        Collectors.mapping(this::toCommentDto, Collectors.toList())));
 
-        return dto;
+        return items.stream()
+                .map(item -> {
+                    ItemDto dto = toItemDto(item);
+                    dto.setLastBooking(lastBookings.get(item.getId()));
+                    dto.setNextBooking(nextBookings.get(item.getId()));
+                    dto.setComments(comments.getOrDefault(item.getId(), Collections.emptyList()));
+                    return dto;
+                })
+                .collect(Collectors.toList());
     }
 
+    /**
+     * Escapes LIKE wildcards so the search text is matched literally; the query declares {@code \} as escape.
+     */
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
 
     private ItemDto toItemDto(Item item) {
         ItemDto dto = new ItemDto();
@@ -185,17 +238,10 @@ public class ItemServiceImpl implements ItemService {
         return dto;
     }
 
-    public Item getItemEntityById(Long itemId, Long userId) {
-        ItemDto itemDto = getItemById(itemId, userId);
-        return toEntity(itemDto);
-    }
-
-    private Item toEntity(ItemDto itemDto) {
-        Item item = new Item();
-        item.setId(itemDto.getId());
-        item.setName(itemDto.getName());
-        item.setDescription(itemDto.getDescription());
-        item.setAvailable(itemDto.getAvailable());
-        return item;
+    @Override
+    @Transactional
+    public Item getItemEntityForUpdate(Long itemId) {
+        return itemRepository.findByIdForUpdate(itemId)
+                .orElseThrow(() -> new NotFoundException("Item с ID " + itemId + " не найден."));
     }
 }
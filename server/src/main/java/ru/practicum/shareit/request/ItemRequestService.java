@@ -1,7 +1,5 @@
 package ru.practicum.shareit.request;
 
-import org.springframework.data.domain.Page;
-import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 
 import java.util.List;
@@ -11,7 +9,7 @@ public interface ItemRequestService {
 
     List<ItemRequestDto> getUserRequests(Long userId);
 
-    Page<ItemDto> getAllRequests(Long userId, int from, int size);
+    List<ItemRequestDto> getAllRequests(Long userId, int from, int size);
 
     ItemRequestDto getRequestById(Long userId, Long requestId);
 }
@@ -1,95 +1,96 @@
 package ru.practicum.shareit.request;
 
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.OffsetPageRequest;
 import ru.practicum.shareit.exceptions.NotFoundException;
 import ru.practicum.shareit.item.ItemRepository;
-import ru.practicum.shareit.item.dto.ItemDto;
-import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemResponseDto;
-import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.request.dto.ItemResponseView;
 import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.UserService;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
+@Observed(name = "shareit.service")
 @RequiredArgsConstructor
 public class ItemRequestServiceImpl implements ItemRequestService {
 
+    private static final Sort SORT_BY_CREATED_DESC = Sort.by(Sort.Direction.DESC, "created")
+            .and(Sort.by(Sort.Direction.DESC, "id"));
+
     private final ItemRequestRepository requestRepository;
     private final UserRepository userRepository;
+    private final UserService userService;
     private final ItemRepository itemRepository;
 
     @Override
+    @Transactional
     public ItemRequestDto createRequest(Long userId, ItemRequestDto requestDto) {
-        User user = getUserOrThrow(userId);
+        userService.checkUserExists(userId);
 
         ItemRequest request = new ItemRequest();
         request.setDescription(requestDto.getDescription());
-        request.setRequester(user);
+        request.setRequester(userRepository.getReferenceById(userId));
         request.setCreated(LocalDateTime.now());
 
         ItemRequest savedRequest = requestRepository.save(request);
-        return toItemRequestDto(savedRequest);
+        return new ItemRequestDto(savedRequest.getId(), savedRequest.getDescription(), savedRequest.getCreated(),
+                Collections.emptyList());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ItemRequestDto> getUserRequests(Long userId) {
-        getUserOrThrow(userId);
-        return requestRepository.findByRequesterIdOrderByCreatedDesc(userId)
-                .stream()
-                .map(this::toItemRequestDto)
-                .collect(Collectors.toList());
+        userService.checkUserExists(userId);
+        return toItemRequestDtos(requestRepository.findByRequesterIdOrderByCreatedDesc(userId));
     }
 
     @Override
-    public Page<ItemDto> getAllRequests(Long userId, int from, int size) {
-        getUserOrThrow(userId);
-        int page = from / size;
-
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Item> itemsPage = itemRepository.findAllExcludingUser(userId, pageable);
-
-        return itemsPage.map(this::toItemDto);
+    @Transactional(readOnly = true)
+    public List<ItemRequestDto> getAllRequests(Long userId, int from, int size) {
+        userService.checkUserExists(userId);
+        List<ItemRequest> requests = requestRepository.findOtherUsersRequests(userId,
+                OffsetPageRequest.of(from, size, SORT_BY_CREATED_DESC));
+        return toItemRequestDtos(requests);
     }
 
 
     @Override
+    @Transactional(readOnly = true)
     public ItemRequestDto getRequestById(Long userId, Long requestId) {
-        getUserOrThrow(userId);
+        userService.checkUserExists(userId);
         ItemRequest request = requestRepository.findById(requestId)
                 .orElseThrow(() -> new NotFoundException("Запрос с id " + requestId + " не найден."));
-        return toItemRequestDto(request);
+        return toItemRequestDtos(List.of(request)).get(0);
     }
 
-    private User getUserOrThrow(Long userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("Пользователь с id " + userId + " не найден."));
-    }
-
-    public ItemRequestDto toItemRequestDto(ItemRequest request) {
-        return new ItemRequestDto(
-                request.getId(),
-                request.getDescription(),
-                request.getCreated(),
-                itemRepository.findByItemRequest_Id(request.getId()).stream()
-                        .map(item -> new ItemResponseDto(item.getId(), item.getName(), item.getOwner().getId()))
-                        .collect(Collectors.toList())
-        );
-    }
-
-    public ItemDto toItemDto(Item item) {
-        ItemDto dto = new ItemDto();
-        dto.setId(item.getId());
-        dto.setName(item.getName());
-        dto.setDescription(item.getDescription());
-        dto.setAvailable(item.isAvailable());
-        return dto;
+    private List<ItemRequestDto> toItemRequestDtos(List<ItemRequest> requests) {
+        if (requests.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Long> requestIds = requests.stream().map(ItemRequest::getId).toList();
+        Map<Long, List<ItemResponseDto>> responses = itemRepository.findResponsesByRequestIds(requestIds).stream()
+                .collect(Collectors.groupingBy(ItemResponseView::getRequestId,
+                        Collectors.mapping(view -> new ItemResponseDto(view.getId(), view.getName(), view.getOwnerId()),
+                                Collectors.toList())));
+
+        return requests.stream()
+                .map(request -> new ItemRequestDto(
+                        request.getId(),
+                        request.getDescription(),
+                        request.getCreated(),
+                        responses.getOrDefault(request.getId(), Collections.emptyList())))
+                .collect(Collectors.toList());
     }
 }
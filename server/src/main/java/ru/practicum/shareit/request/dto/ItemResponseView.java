@@ -0,0 +1,11 @@
+package ru.practicum.shareit.request.dto;
+
+public interface ItemResponseView {
+    Long getRequestId();
+
+    Long getId();
+
+    String getName();
+
+    Long getOwnerId();
+}
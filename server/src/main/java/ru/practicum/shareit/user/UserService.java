@@ -16,5 +16,7 @@ public interface UserService {
 
     boolean existsById(Long id);
 
+    void checkUserExists(Long id);
+
     User updateUser(Long id, User user);
 }
@@ -1,23 +1,35 @@
 package ru.practicum.shareit.user;
 
+import jakarta.persistence.EntityManagerFactory;
+import io.micrometer.observation.annotation.Observed;
+import org.hibernate.Cache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import ru.practicum.shareit.exceptions.ConflictException;
 import ru.practicum.shareit.exceptions.NotFoundException;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.ItemRequest;
 
 import java.util.List;
 
 @Service
+@Observed(name = "shareit.service")
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final EntityManagerFactory entityManagerFactory;
 
     @Autowired
-    public UserServiceImpl(UserRepository userRepository) {
+    public UserServiceImpl(UserRepository userRepository, EntityManagerFactory entityManagerFactory) {
         this.userRepository = userRepository;
+        this.entityManagerFactory = entityManagerFactory;
     }
 
     @Override
+    @Transactional
     public User addUser(User user) {
         if (emailExists(user.getEmail())) {
             throw new ConflictException("Email уже существует");
@@ -27,6 +39,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional
     public User updateUser(Long id, User userUpdates) {
         User existingUser = getUserById(id);
 
@@ -50,33 +63,60 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public User getUserById(Long id) {
         return userRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("User с ID " + id + " не найден"));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<User> getAllUsers() {
         return userRepository.findAll();
     }
 
     @Override
+    @Transactional
     public boolean deleteUser(Long id) {
         if (userRepository.existsById(id)) {
             userRepository.deleteById(id);
+            evictCascadedEntities();
             return true;
         }
         return false;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean emailExists(String email) {
-        return userRepository.findByEmail(email)
-                .isPresent();
+        return userRepository.existsByEmail(email);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean existsById(Long id) {
         return userRepository.existsById(id);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void checkUserExists(Long id) {
+        if (!userRepository.existsById(id)) {
+            throw new NotFoundException("User с ID " + id + " не найден");
+        }
+    }
+
+    // Requests and item links of a deleted user are removed by ON DELETE rules in the database,
+    // which Hibernate does not see, so the cached copies are dropped explicitly once the delete commits.
+    private void evictCascadedEntities() {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+                cache.evictEntityData(ItemRequest.class);
+                cache.evictEntityData(Item.class);
+                cache.evictQueryRegions();
+            }
+        });
+    }
 }
@@ -0,0 +1,11 @@
+CREATE INDEX IF NOT EXISTS ix_bookings_item_status_start ON bookings (item_id, status, start_date);
+
+CREATE INDEX IF NOT EXISTS ix_bookings_booker_start ON bookings (booker_id, start_date DESC);
+
+CREATE INDEX IF NOT EXISTS ix_items_owner ON items (owner_id);
+
+CREATE INDEX IF NOT EXISTS ix_items_item_request ON items (item_request_id);
+
+CREATE INDEX IF NOT EXISTS ix_item_requests_requester_created ON item_requests (requester_id, created DESC);
+
+CREATE INDEX IF NOT EXISTS ix_comments_item ON comments (item_id);
@@ -0,0 +1,9 @@
+-- Comment used to be mapped to a "comment" table that ddl-auto created next to "comments".
+DO $$
+BEGIN
+    IF to_regclass('comment') IS NOT NULL THEN
+        INSERT INTO comments (item_id, user_id, text, created_date)
+        SELECT item_id, user_id, text, COALESCE(created_date, NOW()) FROM comment;
+        DROP TABLE comment;
+    END IF;
+END $$;
@@ -0,0 +1,25 @@
+-- Ids come from pooled sequences (allocation size 50) so Hibernate can batch inserts.
+ALTER TABLE bookings ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE bookings ALTER COLUMN id TYPE BIGINT;
+DROP SEQUENCE IF EXISTS bookings_id_seq;
+
+ALTER TABLE comments ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE comments ALTER COLUMN id TYPE BIGINT;
+DROP SEQUENCE IF EXISTS comments_id_seq;
+
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE item_requests ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE items ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS users_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS item_requests_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS items_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS bookings_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS comments_seq INCREMENT BY 50;
+
+-- Start one allocation block above the current maximum so pooled id ranges never reach existing rows.
+SELECT setval('users_seq', (SELECT COALESCE(MAX(id), 0) FROM users) + 50);
+SELECT setval('item_requests_seq', (SELECT COALESCE(MAX(id), 0) FROM item_requests) + 50);
+SELECT setval('items_seq', (SELECT COALESCE(MAX(id), 0) FROM items) + 50);
+SELECT setval('bookings_seq', (SELECT COALESCE(MAX(id), 0) FROM bookings) + 50);
+SELECT setval('comments_seq', (SELECT COALESCE(MAX(id), 0) FROM comments) + 50);
@@ -0,0 +1,119 @@
+package ru.practicum.shareit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.BookingService;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.exceptions.ConflictException;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs against the PostgreSQL database from {@code application-test.properties}, so it is skipped unless enabled:
+ * {@code mvn -pl server test -Dshareit.postgres=true -Dtest=BookingConcurrencyTest}.
+ */
+@Slf4j
+@SpringBootTest
+@EnabledIfSystemProperty(named = "shareit.postgres", matches = "true")
+@TestPropertySource(locations = "classpath:application-test.properties")
+@ActiveProfiles("test")
+public class BookingConcurrencyTest {
+
+    private static final int CLIENTS = 64;
+
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        bookingRepository.deleteAll();
+        itemRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void addBooking_ShouldNeverAdmitOverlappingIntervals_UnderParallelClients() throws Exception {
+        User owner = userRepository.save(new User(null, "owner", "owner@concurrency.test"));
+        Item item = itemRepository.save(new Item("Drill", "Power drill", true, owner));
+
+        List<User> bookers = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            bookers.add(userRepository.save(new User(null, "booker" + i, "booker" + i + "@concurrency.test")));
+        }
+
+        LocalDateTime base = LocalDateTime.now().plusDays(1).withNano(0);
+        AtomicInteger admitted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch startGate = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            User booker = bookers.get(i);
+            LocalDateTime start = base.plusHours(i % 8);
+            BookingDto dto = new BookingDto(null, item.getId(), null, start, start.plusHours(12), null);
+            futures.add(executor.submit(() -> {
+                startGate.await();
+                try {
+                    bookingService.addBooking(booker.getId(), dto);
+                    admitted.incrementAndGet();
+                } catch (ConflictException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        startGate.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        List<Booking> bookings = bookingRepository.findAll();
+        for (int i = 0; i < bookings.size(); i++) {
+            for (int j = i + 1; j < bookings.size(); j++) {
+                Booking a = bookings.get(i);
+                Booking b = bookings.get(j);
+                assertThat(a.getStart().isBefore(b.getEnd()) && b.getStart().isBefore(a.getEnd()))
+                        .as("bookings %d and %d overlap", a.getId(), b.getId())
+                        .isFalse();
+            }
+        }
+        assertThat(admitted.get()).isEqualTo(1);
+        assertThat(admitted.get() + rejected.get()).isEqualTo(CLIENTS);
+
+        log.info("{} parallel clients: {} admitted, {} rejected, {} requests/s", CLIENTS, admitted.get(),
+                rejected.get(), String.format("%.1f", CLIENTS / (elapsedNanos / 1_000_000_000.0)));
+    }
+}
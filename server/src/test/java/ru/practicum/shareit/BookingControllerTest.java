@@ -8,18 +8,26 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import ru.practicum.shareit.booking.BookingController;
+import ru.practicum.shareit.booking.BookingExportFormat;
+import ru.practicum.shareit.booking.BookingExporter;
 import ru.practicum.shareit.booking.BookingService;
 import ru.practicum.shareit.booking.BookingStatus;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(BookingController.class)
@@ -32,6 +40,9 @@ class BookingControllerTest {
     @MockBean
     private BookingService bookingService;
 
+    @MockBean
+    private BookingExporter bookingExporter;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -102,7 +113,7 @@ class BookingControllerTest {
                 null, null
         );
 
-        when(bookingService.getUserBookings(1L, "ALL")).thenReturn(List.of(responseDto));
+        when(bookingService.getUserBookings(1L, "ALL", 0, 10)).thenReturn(List.of(responseDto));
 
         mockMvc.perform(get("/bookings")
                         .header("X-Sharer-User-Id", 1L)
@@ -119,7 +130,7 @@ class BookingControllerTest {
                 null, null
         );
 
-        when(bookingService.getOwnerBookings(1L, "ALL")).thenReturn(List.of(responseDto));
+        when(bookingService.getOwnerBookings(1L, "ALL", 0, 10)).thenReturn(List.of(responseDto));
 
         mockMvc.perform(get("/bookings/owner")
                         .header("X-Sharer-User-Id", 1L)
@@ -143,4 +154,20 @@ class BookingControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.details").value("Start must be before end"));
     }
+
+    @Test
+    void exportOwnerBookings_ShouldStreamWithExportTimeout() throws Exception {
+        when(bookingExporter.exportOwnerBookings(1L, BookingExportFormat.NDJSON))
+                .thenReturn(out -> out.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8)));
+
+        MvcResult result = mockMvc.perform(get("/bookings/owner/export")
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThat(result.getRequest().getAsyncContext().getTimeout()).isEqualTo(Duration.ofMinutes(30).toMillis());
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string("{\"id\":1}\n"));
+    }
 }
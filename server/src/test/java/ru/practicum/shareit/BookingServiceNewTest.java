@@ -15,6 +15,7 @@ import ru.practicum.shareit.booking.BookingService;
 import ru.practicum.shareit.booking.BookingStatus;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.exceptions.ConflictException;
 import ru.practicum.shareit.exceptions.NotFoundException;
 import ru.practicum.shareit.item.ItemRepository;
 import ru.practicum.shareit.item.ItemService;
@@ -151,11 +152,11 @@ public class BookingServiceNewTest {
         Booking futureBooking = new Booking(null, item, booker, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2), BookingStatus.WAITING);
         bookingRepository.save(futureBooking);
 
-        List<BookingResponseDto> pastBookings = bookingService.getUserBookings(booker.getId(), "PAST");
+        List<BookingResponseDto> pastBookings = bookingService.getUserBookings(booker.getId(), "PAST", 0, 10);
         assertThat(pastBookings.size(), is(1));
         assertThat(pastBookings.get(0).getId(), is(pastBooking.getId()));
 
-        List<BookingResponseDto> futureBookings = bookingService.getUserBookings(booker.getId(), "FUTURE");
+        List<BookingResponseDto> futureBookings = bookingService.getUserBookings(booker.getId(), "FUTURE", 0, 10);
         assertThat(futureBookings.size(), is(1));
         assertThat(futureBookings.get(0).getId(), is(futureBooking.getId()));
     }
@@ -227,6 +228,22 @@ public class BookingServiceNewTest {
         assertThat(exception.getMessage(), containsString("Item с ID " + nonexistentItemId + " не найден"));
     }
 
+    @Test
+    void addBooking_ShouldThrowConflict_WhenIntervalOverlapsExistingBooking() {
+        User booker = new User(null, "booker", "booker@example.com");
+        userRepository.save(booker);
+
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withNano(0);
+        bookingService.addBooking(booker.getId(),
+                new BookingDto(null, item.getId(), null, start, start.plusDays(2), null));
+
+        BookingDto overlapping = new BookingDto(null, item.getId(), null, start.plusDays(1), start.plusDays(3), null);
+        BookingDto adjacent = new BookingDto(null, item.getId(), null, start.plusDays(2), start.plusDays(3), null);
+
+        assertThrows(ConflictException.class, () -> bookingService.addBooking(booker.getId(), overlapping));
+        assertThat(bookingService.addBooking(booker.getId(), adjacent).getId(), is(notNullValue()));
+    }
+
     @Test
     void testBookingDtoConstructor() {
         Long expectedId = 1L;
@@ -10,6 +10,8 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingExportFormat;
+import ru.practicum.shareit.booking.BookingExporter;
 import ru.practicum.shareit.booking.BookingRepository;
 import ru.practicum.shareit.booking.BookingService;
 import ru.practicum.shareit.booking.BookingStatus;
@@ -25,6 +27,9 @@ import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.UserRepository;
 import ru.practicum.shareit.user.UserService;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -48,6 +53,8 @@ public class BookingServiceTest {
     @Autowired
     private UserService userService;
     @Autowired
+    private BookingExporter bookingExporter;
+    @Autowired
     private ItemService itemService;
     private User owner;
     private User user;
@@ -71,7 +78,7 @@ public class BookingServiceTest {
         Booking currentBooking = new Booking(item, user, now.minusDays(1), now.plusDays(1), BookingStatus.WAITING);
         bookingRepository.save(currentBooking);
 
-        List<BookingResponseDto> bookings = bookingService.getOwnerBookings(owner.getId(), "CURRENT");
+        List<BookingResponseDto> bookings = bookingService.getOwnerBookings(owner.getId(), "CURRENT", 0, 10);
 
         assertThat(bookings).hasSize(1);
         assertThat(bookings.get(0).getStatus()).isEqualTo(BookingStatus.WAITING);
@@ -84,7 +91,7 @@ public class BookingServiceTest {
         Booking pastBooking = new Booking(item, user, now.minusDays(3), now.minusDays(1), BookingStatus.REJECTED);
         bookingRepository.save(pastBooking);
 
-        List<BookingResponseDto> bookings = bookingService.getOwnerBookings(owner.getId(), "PAST");
+        List<BookingResponseDto> bookings = bookingService.getOwnerBookings(owner.getId(), "PAST", 0, 10);
 
         assertThat(bookings).hasSize(1);
         assertThat(bookings.get(0).getStatus()).isEqualTo(BookingStatus.REJECTED);
@@ -96,7 +103,7 @@ public class BookingServiceTest {
         Booking futureBooking = new Booking(item, user, now.plusDays(1), now.plusDays(2), BookingStatus.WAITING);
         bookingRepository.save(futureBooking);
 
-        List<BookingResponseDto> bookings = bookingService.getOwnerBookings(owner.getId(), "FUTURE");
+        List<BookingResponseDto> bookings = bookingService.getOwnerBookings(owner.getId(), "FUTURE", 0, 10);
 
         assertThat(bookings).hasSize(1);
         assertThat(bookings.get(0).getStatus()).isEqualTo(BookingStatus.WAITING);
@@ -108,7 +115,7 @@ public class BookingServiceTest {
         Booking waitingBooking = new Booking(item, user, now.minusDays(1), now.plusDays(1), BookingStatus.WAITING);
         bookingRepository.save(waitingBooking);
 
-        List<BookingResponseDto> bookings = bookingService.getOwnerBookings(owner.getId(), "WAITING");
+        List<BookingResponseDto> bookings = bookingService.getOwnerBookings(owner.getId(), "WAITING", 0, 10);
 
         assertThat(bookings).hasSize(1);
         assertThat(bookings.get(0).getStatus()).isEqualTo(BookingStatus.WAITING);
@@ -120,7 +127,7 @@ public class BookingServiceTest {
         Booking rejectedBooking = new Booking(item, user, now.minusDays(3), now.minusDays(1), BookingStatus.REJECTED);
         bookingRepository.save(rejectedBooking);
 
-        List<BookingResponseDto> bookings = bookingService.getOwnerBookings(owner.getId(), "REJECTED");
+        List<BookingResponseDto> bookings = bookingService.getOwnerBookings(owner.getId(), "REJECTED", 0, 10);
 
         assertThat(bookings).hasSize(1);
         assertThat(bookings.get(0).getStatus()).isEqualTo(BookingStatus.REJECTED);
@@ -137,14 +144,34 @@ public class BookingServiceTest {
         bookingRepository.save(futureBooking);
         bookingRepository.save(currentBooking);
 
-        List<BookingResponseDto> bookings = bookingService.getOwnerBookings(owner.getId(), "UNKNOWN");
+        List<BookingResponseDto> bookings = bookingService.getOwnerBookings(owner.getId(), "UNKNOWN", 0, 10);
 
         assertThat(bookings).hasSize(3);
     }
 
+    @Test
+    void getOwnerBookings_ShouldReturnRequestedPage_OrderedByStartDesc() {
+        LocalDateTime now = LocalDateTime.now();
+        Booking pastBooking = new Booking(item, user, now.minusDays(3), now.minusDays(1), BookingStatus.REJECTED);
+        Booking futureBooking = new Booking(item, user, now.plusDays(1), now.plusDays(2), BookingStatus.WAITING);
+        Booking currentBooking = new Booking(item, user, now.minusDays(1), now.plusDays(1), BookingStatus.WAITING);
+
+        bookingRepository.save(pastBooking);
+        bookingRepository.save(futureBooking);
+        bookingRepository.save(currentBooking);
+
+        List<BookingResponseDto> firstPage = bookingService.getOwnerBookings(owner.getId(), "ALL", 0, 2);
+        List<BookingResponseDto> secondPage = bookingService.getOwnerBookings(owner.getId(), "ALL", 2, 2);
+
+        assertThat(firstPage).extracting(BookingResponseDto::getId)
+                .containsExactly(futureBooking.getId(), currentBooking.getId());
+        assertThat(secondPage).extracting(BookingResponseDto::getId)
+                .containsExactly(pastBooking.getId());
+    }
+
     @Test
     void getOwnerBookings_ShouldThrowNotFoundException_WhenOwnerDoesNotExist() {
-        assertThrows(NotFoundException.class, () -> bookingService.getOwnerBookings(999L, "CURRENT"));
+        assertThrows(NotFoundException.class, () -> bookingService.getOwnerBookings(999L, "CURRENT", 0, 10));
     }
 
     @Test
@@ -220,4 +247,39 @@ public class BookingServiceTest {
         assertThrows(ForbiddenException.class, () -> bookingService.updateBookingStatus(booking.getId(), anotherUser.getId(), true));
     }
 
+    @Test
+    void exportOwnerBookings_ShouldWriteOneJsonLinePerBooking() throws IOException {
+        LocalDateTime now = LocalDateTime.now();
+        bookingRepository.save(new Booking(item, user, now.minusDays(3), now.minusDays(2), BookingStatus.APPROVED));
+        bookingRepository.save(new Booking(item, user, now.plusDays(1), now.plusDays(2), BookingStatus.WAITING));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        bookingExporter.exportOwnerBookings(owner.getId(), BookingExportFormat.NDJSON).writeTo(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains("\"status\":\"WAITING\"").contains("\"name\":\"Drill\"");
+        assertThat(lines[1]).contains("\"status\":\"APPROVED\"");
+    }
+
+    @Test
+    void exportOwnerBookings_ShouldQuoteCsvFields() throws IOException {
+        Item saw = itemRepository.save(new Item("Saw, hand", "Hand saw", true, owner));
+        LocalDateTime now = LocalDateTime.now();
+        bookingRepository.save(new Booking(saw, user, now.plusDays(1), now.plusDays(2), BookingStatus.WAITING));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        bookingExporter.exportOwnerBookings(owner.getId(), BookingExportFormat.CSV).writeTo(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).isEqualTo("id,start,end,status,itemId,itemName,bookerId");
+        assertThat(lines[1]).contains(",WAITING," + saw.getId() + ",\"Saw, hand\"," + user.getId());
+    }
+
+    @Test
+    void exportOwnerBookings_ShouldThrowNotFound_WhenOwnerMissing() {
+        assertThrows(NotFoundException.class,
+                () -> bookingExporter.exportOwnerBookings(999L, BookingExportFormat.NDJSON));
+    }
 }
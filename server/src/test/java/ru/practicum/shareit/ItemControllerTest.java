@@ -10,6 +10,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.exceptions.BadRequestException;
+import ru.practicum.shareit.exceptions.NotFoundException;
 import ru.practicum.shareit.item.*;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.model.Item;
@@ -20,6 +21,7 @@ import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
@@ -28,7 +30,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = ItemController.class)
-@Import(ItemService.class)
+@Import({ItemService.class, ItemReadCoalescer.class})
 @AutoConfigureMockMvc
 public class ItemControllerTest {
 
@@ -37,6 +39,8 @@ public class ItemControllerTest {
     private MockMvc mockMvc;
     @MockBean
     private ItemService itemService;
+    @MockBean
+    private ItemImporter itemImporter;
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -71,7 +75,7 @@ public class ItemControllerTest {
     @Test
     void searchItems_ShouldReturnMatchingItems() throws Exception {
         ItemDto itemDto = new ItemDto(1L, "Drill", "Power drill", true, null);
-        when(itemService.searchItems("Drill")).thenReturn(List.of(itemDto));
+        when(itemService.searchItems("Drill", 0, 10)).thenReturn(List.of(itemDto));
 
         mockMvc.perform(get("/items/search")
                         .param("text", "Drill"))
@@ -102,9 +106,12 @@ public class ItemControllerTest {
 
     @Test
     void getItem_ShouldReturnNotFound_WhenItemNotExists() throws Exception {
+        when(itemService.getItemById(999L, 1L)).thenThrow(new NotFoundException("Item с ID 999 не найден."));
+
         mockMvc.perform(get("/items/{itemId}", 999L)
                         .header(USER_ID_HEADER, String.valueOf(1L)))
-                .andExpect(status().isInternalServerError());
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.details").value("Item с ID 999 не найден."));
     }
 
     @Test
@@ -233,4 +240,16 @@ public class ItemControllerTest {
                 .andExpect(jsonPath("$.error").value("Bad request"))
                 .andExpect(jsonPath("$.details").value("User ID is missing"));
     }
+
+    @Test
+    void importItems_ShouldReturnImportedCount() throws Exception {
+        when(itemImporter.importItems(eq(1L), any())).thenReturn(2L);
+
+        mockMvc.perform(post("/items/bulk")
+                        .contentType("application/x-ndjson")
+                        .header(USER_ID_HEADER, "1")
+                        .content("{\"name\":\"Drill\",\"available\":true}\n{\"name\":\"Saw\",\"available\":false}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2));
+    }
 }
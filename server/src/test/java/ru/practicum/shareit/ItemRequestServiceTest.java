@@ -1,12 +1,15 @@
 package ru.practicum.shareit;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.ComponentScan;
-import org.springframework.data.domain.Page;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,7 +17,6 @@ import ru.practicum.shareit.booking.BookingRepository;
 import ru.practicum.shareit.booking.BookingService;
 import ru.practicum.shareit.exceptions.NotFoundException;
 import ru.practicum.shareit.item.ItemRepository;
-import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.request.ItemRequest;
 import ru.practicum.shareit.request.ItemRequestRepository;
@@ -47,6 +49,10 @@ public class ItemRequestServiceTest {
     private ItemRequestRepository itemRequestRepository;
     @Autowired
     private ItemRepository itemRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
     private User user;
     private User owner;
     private Item item;
@@ -112,31 +118,68 @@ public class ItemRequestServiceTest {
     }
 
     @Test
-    void toItemDto_ShouldConvertItemToItemDto() {
-        Item item = new Item("Drill", "Power drill", true, user);
+    void getAllRequests_ShouldReturnOtherUsersRequestsWithResponses() {
+        ItemRequestDto ownRequest = itemRequestService.createRequest(user.getId(), itemRequestDto);
+        ItemRequestDto otherRequest = itemRequestService.createRequest(owner.getId(), itemRequestDto);
+
+        Item requestedItem = new Item("Requested Item", "Item description", true, user);
+        requestedItem.setItemRequest(itemRequestRepository.findById(otherRequest.getId()).orElseThrow());
+        itemRepository.save(requestedItem);
 
-        ItemDto itemDto = itemRequestService.toItemDto(item);
+        List<ItemRequestDto> result = itemRequestService.getAllRequests(user.getId(), 0, 10);
 
-        assertThat(itemDto.getId()).isEqualTo(item.getId());
-        assertThat(itemDto.getName()).isEqualTo(item.getName());
-        assertThat(itemDto.getDescription()).isEqualTo(item.getDescription());
-        assertThat(itemDto.getAvailable()).isEqualTo(item.isAvailable());
+        assertThat(result).extracting(ItemRequestDto::getId)
+                .containsExactly(otherRequest.getId())
+                .doesNotContain(ownRequest.getId());
+        assertThat(result.get(0).getItems()).hasSize(1);
+        assertThat(result.get(0).getItems().get(0).getId()).isEqualTo(requestedItem.getId());
+        assertThat(result.get(0).getItems().get(0).getOwnerId()).isEqualTo(user.getId());
     }
 
     @Test
-    void getAllRequests_ShouldReturnItemsNotOwnedByUser() {
-        ItemRequestDto createdRequest = itemRequestService.createRequest(user.getId(), itemRequestDto);
+    void getAllRequests_ShouldPageNewestFirst() {
+        ItemRequestDto first = itemRequestService.createRequest(owner.getId(), itemRequestDto);
+        ItemRequestDto second = itemRequestService.createRequest(owner.getId(), itemRequestDto);
 
-        Item requestedItem = new Item("Requested Item", "Item description", true, owner);
-        itemRepository.save(requestedItem);
+        List<ItemRequestDto> firstPage = itemRequestService.getAllRequests(user.getId(), 0, 1);
+        List<ItemRequestDto> secondPage = itemRequestService.getAllRequests(user.getId(), 1, 1);
+
+        assertThat(firstPage).extracting(ItemRequestDto::getId).containsExactly(second.getId());
+        assertThat(secondPage).extracting(ItemRequestDto::getId).containsExactly(first.getId());
+    }
 
-        Item anotherItem = new Item("Other", "Other description", true, owner);
-        itemRepository.save(anotherItem);
+    @Test
+    void getAllRequests_ShouldStartAtExactOffset_WhenFromIsNotMultipleOfSize() {
+        ItemRequestDto first = itemRequestService.createRequest(owner.getId(), itemRequestDto);
+        ItemRequestDto second = itemRequestService.createRequest(owner.getId(), itemRequestDto);
+        ItemRequestDto third = itemRequestService.createRequest(owner.getId(), itemRequestDto);
 
-        Page<ItemDto> result = itemRequestService.getAllRequests(user.getId(), 0, 10);
+        List<ItemRequestDto> result = itemRequestService.getAllRequests(user.getId(), 1, 2);
 
-        assertThat(result).isNotNull();
-        assertThat(result.getContent()).isNotEmpty();
+        assertThat(result).extracting(ItemRequestDto::getId).containsExactly(second.getId(), first.getId());
+        assertThat(result).extracting(ItemRequestDto::getId).doesNotContain(third.getId());
+    }
+
+    @Test
+    void getUserRequests_ShouldUseConstantStatementCount_RegardlessOfRequestCount() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        createAnsweredRequests(1);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        itemRequestService.getUserRequests(user.getId());
+        long statementsForOneRequest = statistics.getPrepareStatementCount();
+
+        createAnsweredRequests(5);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        List<ItemRequestDto> requests = itemRequestService.getUserRequests(user.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsForOneRequest);
+        assertThat(requests).hasSize(6);
+        assertThat(requests).allSatisfy(request -> assertThat(request.getItems()).hasSize(2));
     }
 
     @Test
@@ -154,4 +197,15 @@ public class ItemRequestServiceTest {
         assertThat(!request.getCreated().isBefore(before) && !request.getCreated().isAfter(after)).isTrue();
         assertThat(request.getItems()).isEmpty();
     }
+
+    private void createAnsweredRequests(int count) {
+        for (int i = 0; i < count; i++) {
+            ItemRequest request = itemRequestRepository.save(new ItemRequest("Request " + i, user));
+            for (int j = 0; j < 2; j++) {
+                Item answer = new Item("Answer " + j, "Description", true, owner);
+                answer.setItemRequest(request);
+                itemRepository.save(answer);
+            }
+        }
+    }
 }
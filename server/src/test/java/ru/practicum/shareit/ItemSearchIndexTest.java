@@ -0,0 +1,111 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.ItemSearchIndex;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ItemSearchIndexTest {
+
+    private ItemSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ItemSearchIndex(null, true);
+        index.index(item(1L, "Power drill", "Cordless, 18V", true));
+        index.index(item(2L, "Saw", "Fits any drill attachment", true));
+        index.index(item(3L, "Hammer", "Steel", true));
+    }
+
+    @Test
+    void search_ShouldMatchTokenPrefixesInNameAndDescription() {
+        assertThat(index.search("DRI", 0, 10)).containsExactly(1L, 2L);
+        assertThat(index.search("cordless drill", 0, 10)).containsExactly(1L);
+        assertThat(index.search("wrench", 0, 10)).isEmpty();
+    }
+
+    @Test
+    void search_ShouldReflectUpdatesAndAvailabilityImmediately() {
+        index.index(item(2L, "Saw", "Wood only", true));
+        index.index(item(1L, "Power drill", "Cordless, 18V", false));
+
+        assertThat(index.search("drill", 0, 10)).isEmpty();
+
+        index.index(item(1L, "Power drill", "Cordless, 18V", true));
+        assertThat(index.search("drill", 0, 10)).containsExactly(1L);
+    }
+
+    @Test
+    void search_ShouldPage() {
+        List<Long> firstPage = index.search("drill", 0, 1);
+        List<Long> secondPage = index.search("drill", 1, 1);
+
+        assertThat(firstPage).containsExactly(1L);
+        assertThat(secondPage).containsExactly(2L);
+        assertThat(index.memoryFootprintBytes()).isPositive();
+    }
+
+    @Test
+    void index_ShouldWaitForCommit_WhenTransactionIsActive() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.index(item(4L, "Drill press", "Bench", true));
+            assertThat(index.search("press", 0, 10)).isEmpty();
+
+            TransactionSynchronizationUtils.triggerAfterCommit();
+            assertThat(index.search("press", 0, 10)).containsExactly(4L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void index_ShouldSkipItem_WhenTransactionRollsBack() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.index(item(4L, "Drill press", "Bench", true));
+            TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(index.search("press", 0, 10)).isEmpty();
+    }
+
+    @Test
+    void rebuild_ShouldKeepUpdateCommittedWhileLoading() {
+        ItemRepository itemRepository = mock(ItemRepository.class);
+        ItemSearchIndex rebuilt = new ItemSearchIndex(itemRepository, true);
+        when(itemRepository.findSearchableAfter(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            if ((Long) invocation.getArgument(0) > 0) {
+                return List.of();
+            }
+            // The batch was read before this update committed, so it still holds the old name.
+            rebuilt.index(item(1L, "Impact driver", "Cordless", true));
+            return List.of(new ItemDto(1L, "Power drill", "Cordless", true));
+        });
+
+        rebuilt.rebuild();
+
+        assertThat(rebuilt.search("driver", 0, 10)).containsExactly(1L);
+        assertThat(rebuilt.search("drill", 0, 10)).isEmpty();
+    }
+
+    private static Item item(Long id, String name, String description, boolean available) {
+        return new Item(id, name, description, available, null, null);
+    }
+}
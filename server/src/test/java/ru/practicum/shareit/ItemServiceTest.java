@@ -18,6 +18,7 @@ import ru.practicum.shareit.exceptions.ForbiddenException;
 import ru.practicum.shareit.exceptions.NotFoundException;
 import ru.practicum.shareit.item.Comment;
 import ru.practicum.shareit.item.CommentDto;
+import ru.practicum.shareit.item.ItemImporter;
 import ru.practicum.shareit.item.ItemRepository;
 import ru.practicum.shareit.item.ItemService;
 import ru.practicum.shareit.item.dto.ItemDto;
@@ -27,6 +28,8 @@ import ru.practicum.shareit.request.ItemRequestRepository;
 import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.UserRepository;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -44,6 +47,7 @@ import static org.junit.jupiter.api.Assertions.*;
 public class ItemServiceTest {
     private final EntityManager em;
     private final ItemService itemService;
+    private final ItemImporter itemImporter;
     private final UserRepository userRepository;
 
     private final BookingRepository bookingRepository;
@@ -151,6 +155,42 @@ public class ItemServiceTest {
         assertThat(items.get(1).getName(), is("Item 2"));
     }
 
+    @Test
+    void getAllItemsByOwner_ShouldAttachBookingsAndComments() {
+        User owner = new User(null, "owner", "owner@example.com");
+        User booker = new User(null, "booker", "booker@example.com");
+        em.persist(owner);
+        em.persist(booker);
+
+        Item item1 = new Item("Item 1", "Description", true, owner);
+        Item item2 = new Item("Item 2", "Description", true, owner);
+        em.persist(item1);
+        em.persist(item2);
+
+        LocalDateTime now = LocalDateTime.now();
+        Booking last = new Booking(item1, booker, now.minusDays(3), now.minusDays(2), BookingStatus.APPROVED);
+        Booking older = new Booking(item1, booker, now.minusDays(6), now.minusDays(5), BookingStatus.APPROVED);
+        Booking next = new Booking(item1, booker, now.plusDays(1), now.plusDays(2), BookingStatus.APPROVED);
+        Booking rejected = new Booking(item2, booker, now.plusDays(1), now.plusDays(2), BookingStatus.REJECTED);
+        em.persist(last);
+        em.persist(older);
+        em.persist(next);
+        em.persist(rejected);
+        em.persist(new Comment(item1, booker, "Nice"));
+
+        List<ItemDto> items = itemService.getAllItemsByOwner(owner.getId());
+
+        ItemDto first = items.stream().filter(i -> i.getId().equals(item1.getId())).findFirst().orElseThrow();
+        ItemDto second = items.stream().filter(i -> i.getId().equals(item2.getId())).findFirst().orElseThrow();
+        assertThat(first.getLastBooking(), is(last.getStart()));
+        assertThat(first.getNextBooking(), is(next.getStart()));
+        assertThat(first.getComments().size(), is(1));
+        assertThat(first.getComments().get(0).getAuthorName(), is("booker"));
+        assertNull(second.getLastBooking());
+        assertNull(second.getNextBooking());
+        assertTrue(second.getComments().isEmpty());
+    }
+
     @Test
     void searchItems_ShouldReturnMatchingItems() {
         User user = new User(null, "test_user", "user@example.com");
@@ -161,7 +201,7 @@ public class ItemServiceTest {
         em.persist(item1);
         em.persist(item2);
 
-        List<ItemDto> items = itemService.searchItems("Test");
+        List<ItemDto> items = itemService.searchItems("Test", 0, 10);
 
         assertThat(items.size(), is(1));
         assertThat(items.get(0).getName(), is("Test Item"));
@@ -175,7 +215,7 @@ public class ItemServiceTest {
         Item item = new Item("Item Name", "Description", true, user);
         em.persist(item);
 
-        List<ItemDto> items = itemService.searchItems("Nonexistent");
+        List<ItemDto> items = itemService.searchItems("Nonexistent", 0, 10);
 
         assertThat(items.size(), is(0));
     }
@@ -341,9 +381,54 @@ public class ItemServiceTest {
         assertThat(updatedItem.getAvailable(), is(true));
     }
 
+    @Test
+    void searchItems_ShouldMatchDescription_AndRankNameMatchesFirst() {
+        User user = new User(null, "test_user", "user@example.com");
+        em.persist(user);
+
+        Item byDescription = new Item("Saw", "Cordless drill attachment", true, user);
+        Item byName = new Item("Drill", "Power tool", true, user);
+        Item unavailable = new Item("Drill", "Broken", false, user);
+        em.persist(byDescription);
+        em.persist(byName);
+        em.persist(unavailable);
+
+        List<ItemDto> items = itemService.searchItems("DRILL", 0, 10);
+        List<ItemDto> secondPage = itemService.searchItems("drill", 1, 1);
+
+        assertThat(items.size(), is(2));
+        assertThat(items.get(0).getId(), is(byName.getId()));
+        assertThat(items.get(1).getId(), is(byDescription.getId()));
+        assertThat(secondPage.size(), is(1));
+        assertThat(secondPage.get(0).getId(), is(byDescription.getId()));
+    }
+
+    @Test
+    void searchItems_ShouldMatchWildcardCharactersLiterally() {
+        User user = new User(null, "test_user", "user@example.com");
+        em.persist(user);
+
+        Item percent = new Item("Cotton sheet", "100% cotton", true, user);
+        Item plain = new Item("Linen sheet", "100 linen cotton", true, user);
+        Item underscore = new Item("snake_case", "Label maker", true, user);
+        Item letter = new Item("snakeXcase", "Label maker", true, user);
+        em.persist(percent);
+        em.persist(plain);
+        em.persist(underscore);
+        em.persist(letter);
+
+        List<ItemDto> byPercent = itemService.searchItems("100%", 0, 10);
+        List<ItemDto> byUnderscore = itemService.searchItems("e_c", 0, 10);
+
+        assertThat(byPercent.size(), is(1));
+        assertThat(byPercent.get(0).getId(), is(percent.getId()));
+        assertThat(byUnderscore.size(), is(1));
+        assertThat(byUnderscore.get(0).getId(), is(underscore.getId()));
+    }
+
     @Test
     void searchItems_ShouldReturnEmptyList_WhenTextIsNull() {
-        List<ItemDto> items = itemService.searchItems(null);
+        List<ItemDto> items = itemService.searchItems(null, 0, 10);
 
         assertThat(items, is(notNullValue()));
         assertThat(items.size(), is(0));
@@ -351,7 +436,7 @@ public class ItemServiceTest {
 
     @Test
     void searchItems_ShouldReturnEmptyList_WhenTextIsBlank() {
-        List<ItemDto> items = itemService.searchItems("   ");
+        List<ItemDto> items = itemService.searchItems("   ", 0, 10);
 
         assertThat(items, is(notNullValue()));
         assertThat(items.size(), is(0));
@@ -437,7 +522,28 @@ public class ItemServiceTest {
         assertNotNull(item.getItemRequest(), "Запрос должен быть привязан к вещи");
         assertEquals(itemRequest.getId(), item.getItemRequest().getId(), "Запрос должен совпадать");
     }
-}
 
+    @Test
+    void importItems_ShouldPersistEveryLine() {
+        User owner = userRepository.save(new User(null, "owner", "owner@example.com"));
+        String ndjson = "{\"name\":\"Drill\",\"description\":\"Power drill\",\"available\":true}\n"
+                + "{\"name\":\"Saw\",\"description\":\"Hand saw\",\"available\":false}\n";
+
+        long imported = itemImporter.importItems(owner.getId(),
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
 
+        assertEquals(2, imported);
+        List<Item> items = itemRepository.findByOwnerId(owner.getId());
+        assertEquals(2, items.size());
+    }
 
+    @Test
+    void importItems_ShouldRejectLineWithoutName() {
+        User owner = userRepository.save(new User(null, "owner", "owner@example.com"));
+        String ndjson = "{\"name\":\"Drill\",\"available\":true}\n{\"available\":true}\n";
+
+        BadRequestException e = assertThrows(BadRequestException.class, () -> itemImporter.importItems(owner.getId(),
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8))));
+        assertTrue(e.getMessage().startsWith("Строка 2"));
+    }
+}
@@ -0,0 +1,42 @@
+package ru.practicum.shareit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import ru.practicum.shareit.config.JdbcMetricsListener;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JdbcMetricsListenerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void statements_ShouldBeTimedAndWrittenRowsCounted() {
+        DataSource target = new DriverManagerDataSource(
+                "jdbc:h2:mem:metrics-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcMetricsListener listener = new JdbcMetricsListener(registry);
+        JdbcTemplate jdbc = new JdbcTemplate(ProxyDataSourceBuilder.create(target)
+                .listener(listener)
+                .build());
+
+        jdbc.execute("CREATE TABLE tools (name VARCHAR(16))");
+        jdbc.batchUpdate("INSERT INTO tools VALUES (?)", List.of(new Object[]{"drill"}, new Object[]{"saw"}));
+        jdbc.update("INSERT INTO tools VALUES (?)", "hammer");
+        List<String> names = jdbc.queryForList("SELECT name FROM tools", String.class);
+
+        assertThat(names).hasSize(3);
+        assertThat(registry.get("shareit.jdbc.query").tags("type", "select", "batch", "false", "outcome", "success").timer().count())
+                .isEqualTo(1);
+        assertThat(registry.get("shareit.jdbc.query").tags("type", "insert", "batch", "true").timer().count())
+                .isEqualTo(1);
+        assertThat(registry.get("shareit.jdbc.rows").tag("type", "insert").counter().count()).isEqualTo(3);
+        assertThat(registry.find("shareit.jdbc.query").tags("type", "delete").timer()).isNull();
+    }
+}
@@ -0,0 +1,79 @@
+package ru.practicum.shareit;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the migrations against the Postgres test database and checks that the hot lookups can be served by an
+ * index. Sequential scans are disabled for the session, so the planner only picks one when no index fits.
+ * Skipped unless enabled: {@code mvn -pl server test -Dshareit.postgres=true -Dtest=QueryPlanTest}.
+ */
+@DataJpaTest
+@EnabledIfSystemProperty(named = "shareit.postgres", matches = "true")
+@Transactional
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(locations = "classpath:application-test.properties", properties = {
+        "spring.flyway.enabled=true",
+        "spring.flyway.clean-disabled=false",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+@ActiveProfiles("test")
+public class QueryPlanTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @TestConfiguration
+    static class CleanMigrateConfiguration {
+        @Bean
+        FlywayMigrationStrategy cleanMigrateStrategy() {
+            return flyway -> {
+                flyway.clean();
+                flyway.migrate();
+            };
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        entityManager.createNativeQuery("SET LOCAL enable_seqscan = off").executeUpdate();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "SELECT * FROM bookings WHERE booker_id = 1 ORDER BY start_date DESC, id DESC LIMIT 10",
+            "SELECT * FROM bookings WHERE booker_id = 1 AND status = 'WAITING' ORDER BY start_date DESC LIMIT 10",
+            "SELECT b.* FROM bookings b JOIN items i ON i.id = b.item_id WHERE i.owner_id = 1 " +
+                    "ORDER BY b.start_date DESC, b.id DESC LIMIT 10",
+            "SELECT 1 FROM bookings WHERE item_id = 1 AND status IN ('WAITING', 'APPROVED') " +
+                    "AND start_date < NOW() + INTERVAL '2 days' AND end_date > NOW() + INTERVAL '1 day'",
+            "SELECT MIN(start_date) FROM bookings WHERE item_id = 1 AND status = 'APPROVED' AND start_date > NOW()",
+            "SELECT * FROM items WHERE owner_id = 1",
+            "SELECT * FROM items WHERE item_request_id IN (1, 2, 3)",
+            "SELECT * FROM item_requests WHERE requester_id = 1 ORDER BY created DESC",
+            "SELECT * FROM comments WHERE item_id IN (1, 2, 3)",
+            "SELECT * FROM items WHERE lower(name) LIKE '%drill%'"
+    })
+    void hotQuery_ShouldNotFallBackToSequentialScan(String sql) {
+        @SuppressWarnings("unchecked")
+        List<String> plan = entityManager.createNativeQuery("EXPLAIN " + sql).getResultList();
+
+        assertThat(plan).as(String.join("\n", plan)).noneMatch(line -> line.contains("Seq Scan"));
+    }
+}
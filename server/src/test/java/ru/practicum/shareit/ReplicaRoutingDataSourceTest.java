@@ -0,0 +1,193 @@
+package ru.practicum.shareit;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.config.ReplicaDataSourceConfig;
+import ru.practicum.shareit.config.ReplicaRoutingDataSource;
+import ru.practicum.shareit.user.User;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two in-memory databases stand in for the primary and a replica; each knows its own name.
+ */
+public class ReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+    private ReplicaRoutingDataSource routing;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+        new JdbcTemplate(replica).execute("CREATE TABLE replica_lag (seconds DOUBLE PRECISION)");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (entityManagerFactory != null) {
+            entityManagerFactory.close();
+        }
+        routing.close();
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldUseReplica() {
+        start(0.5);
+
+        String node = readOnly.execute(status -> node());
+
+        assertThat(node).isEqualTo("replica");
+    }
+
+    @Test
+    void writeTransaction_ShouldUsePrimary() {
+        start(0.5);
+
+        String node = readWrite.execute(status -> node());
+
+        assertThat(node).isEqualTo("primary");
+        assertThat(node()).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldFallBackToPrimary_WhenReplicaLags() {
+        start(30.0);
+
+        String node = readOnly.execute(status -> node());
+
+        assertThat(node).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldFallBackToPrimary_WhenLagCheckFails() {
+        start(null);
+
+        String node = readOnly.execute(status -> node());
+
+        assertThat(node).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyJpaTransaction_ShouldUseReplica() {
+        startJpa();
+
+        String name = readOnly.execute(status -> user().getName());
+
+        assertThat(name).isEqualTo("replica");
+    }
+
+    /**
+     * The replica still holds an older copy of the user. Loading it in a read-only transaction must not cache it,
+     * or the following write would load that copy instead of the primary's row.
+     */
+    @Test
+    void writeJpaTransaction_ShouldNotSeeRowsCachedFromReplica() {
+        startJpa();
+
+        readOnly.executeWithoutResult(status -> user());
+        String name = readWrite.execute(status -> user().getName());
+
+        assertThat(name).isEqualTo("primary");
+        assertThat(entityManagerFactory.getCache().contains(User.class, 1L)).isTrue();
+    }
+
+    /**
+     * Starts routing with the replica reporting the given lag; without a lag row the check fails.
+     */
+    private void start(Double lagSeconds) {
+        if (lagSeconds != null) {
+            new JdbcTemplate(replica).update("INSERT INTO replica_lag VALUES (?)", lagSeconds);
+        }
+
+        routing = new ReplicaRoutingDataSource(primary, Map.of("replica-1", replica),
+                "SELECT seconds FROM replica_lag", Duration.ofSeconds(5), Duration.ofHours(1));
+        routing.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbc = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    /**
+     * Starts routing behind a JPA transaction manager, configured as in the application, with one user on both
+     * databases whose name is the database's own.
+     */
+    private void startJpa() {
+        start(0.5);
+        for (DataSource database : List.of(primary, replica)) {
+            JdbcTemplate template = new JdbcTemplate(database);
+            template.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, name VARCHAR(255), email VARCHAR(255))");
+            template.update("INSERT INTO users SELECT 1, name, 'user@mail.ru' FROM node");
+        }
+
+        Properties properties = new Properties();
+        properties.put("hibernate.connection.handling_mode", "DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION");
+        properties.put("hibernate.cache.use_second_level_cache", "true");
+        properties.put("hibernate.cache.region.factory_class", "jcache");
+        properties.put("hibernate.javax.cache.provider",
+                "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider");
+        properties.put("hibernate.javax.cache.missing_cache_strategy", "create");
+        // A cache manager of its own, so closing this factory leaves the application contexts' caches open.
+        properties.put("hibernate.javax.cache.uri", "application.conf");
+
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(new LazyConnectionDataSourceProxy(routing));
+        factory.setPackagesToScan("ru.practicum.shareit.user");
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaProperties(properties);
+        ReplicaDataSourceConfig.replicaCacheDialectPostProcessor().postProcessBeforeInitialization(factory, "factory");
+        factory.afterPropertiesSet();
+        entityManagerFactory = factory.getObject();
+
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    private User user() {
+        EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+        return entityManager.find(User.class, 1L);
+    }
+
+    private String node() {
+        return jdbc.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE node (name VARCHAR(16))");
+        jdbc.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,62 @@
+package ru.practicum.shareit;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import ru.practicum.shareit.config.ObservabilityConfig;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+@ActiveProfiles("test")
+@Import({ObservabilityConfig.class, RepositoryRowsMetricsTest.Metrics.class})
+public class RepositoryRowsMetricsTest {
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private MeterRegistry registry;
+
+    @Test
+    void queryMethods_ShouldRecordReturnedRows() {
+        User owner = userRepository.save(new User(null, "Owner", "rows-owner@example.com"));
+        itemRepository.save(new Item(null, "Drill", "Cordless drill", true, owner, null));
+        itemRepository.save(new Item(null, "Saw", "Hand saw", true, owner, null));
+
+        assertThat(itemRepository.findByOwnerId(owner.getId())).hasSize(2);
+        assertThat(userRepository.findById(owner.getId())).isPresent();
+        assertThat(userRepository.findById(-1L)).isEmpty();
+
+        DistributionSummary byOwner = registry.get("shareit.repository.rows")
+                .tags("repository", "ItemRepository", "method", "findByOwnerId").summary();
+        assertThat(byOwner.count()).isEqualTo(1);
+        assertThat(byOwner.totalAmount()).isEqualTo(2);
+        DistributionSummary byId = registry.get("shareit.repository.rows")
+                .tags("repository", "UserRepository", "method", "findById").summary();
+        assertThat(byId.count()).isEqualTo(2);
+        assertThat(byId.totalAmount()).isEqualTo(1);
+        assertThat(registry.find("shareit.repository.rows").tag("method", "save").summary()).isNull();
+    }
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
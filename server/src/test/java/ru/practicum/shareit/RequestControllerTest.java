@@ -64,6 +64,20 @@ public class RequestControllerTest {
                 .andExpect(jsonPath("$[0].description").value(requestDto.getDescription()));
     }
 
+    @Test
+    void getAllRequests_ShouldReturnOtherUsersRequests() throws Exception {
+        ItemRequestDto requestDto = new ItemRequestDto(2L, "Need a saw", LocalDateTime.now(), Collections.emptyList());
+        when(itemRequestService.getAllRequests(1L, 0, 10)).thenReturn(List.of(requestDto));
+
+        mockMvc.perform(get("/requests/all")
+                        .header(USER_ID_HEADER, "1")
+                        .param("from", "0")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(requestDto.getId()))
+                .andExpect(jsonPath("$[0].description").value(requestDto.getDescription()));
+    }
+
     @Test
     void getRequestById_ShouldReturnRequestDto() throws Exception {
         ItemRequestDto requestDto = new ItemRequestDto(1L, "Need a drill", LocalDateTime.now(), Collections.emptyList());
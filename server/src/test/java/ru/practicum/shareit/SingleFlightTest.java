@@ -0,0 +1,76 @@
+package ru.practicum.shareit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.exceptions.NotFoundException;
+import ru.practicum.shareit.item.SingleFlight;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SingleFlightTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SingleFlight<Long, String> flight = new SingleFlight<>("test", registry);
+
+    @Test
+    void execute_ShouldShareOneLoadBetweenConcurrentCallers() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = executor.submit(() -> flight.execute(1L, () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return "drill";
+            }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            Future<String> second = executor.submit(() -> flight.execute(1L, () -> {
+                loads.incrementAndGet();
+                return "other";
+            }));
+            Thread.sleep(200);
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("drill");
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("drill");
+            assertThat(loads.get()).isEqualTo(1);
+            assertThat(registry.get("shareit.singleflight.calls").tag("result", "coalesced").counter().count())
+                    .isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void execute_ShouldRunAgainOnceThePreviousCallCompleted() {
+        assertThat(flight.execute(1L, () -> "first")).isEqualTo("first");
+        assertThat(flight.execute(1L, () -> "second")).isEqualTo("second");
+    }
+
+    @Test
+    void execute_ShouldPropagateLoaderException() {
+        assertThrows(NotFoundException.class, () -> flight.execute(1L, () -> {
+            throw new NotFoundException("Item с ID 1 не найден.");
+        }));
+        assertThat(flight.execute(1L, () -> "found")).isEqualTo("found");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
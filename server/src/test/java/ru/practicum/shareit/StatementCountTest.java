@@ -0,0 +1,164 @@
+package ru.practicum.shareit;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.BookingService;
+import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.item.Comment;
+import ru.practicum.shareit.item.CommentRepository;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.ItemRequest;
+import ru.practicum.shareit.request.ItemRequestRepository;
+import ru.practicum.shareit.request.ItemRequestService;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserRepository;
+
+import java.nio.file.AccessDeniedException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Transactional
+@TestPropertySource(locations = "classpath:application-test.properties")
+@ActiveProfiles("test")
+@ComponentScan(basePackages = "ru.practicum.shareit")
+public class StatementCountTest {
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private ItemRequestService itemRequestService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private ItemRequestRepository itemRequestRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    private Statistics statistics;
+    private User owner;
+    private User booker;
+    private Item drill;
+    private Booking pastBooking;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(new User(null, "owner", "owner@google.com"));
+        booker = userRepository.save(new User(null, "booker", "booker@google.com"));
+
+        ItemRequest request = itemRequestRepository.save(new ItemRequest("Need a saw", booker));
+        drill = itemRepository.save(new Item("Drill", "Power drill", true, owner));
+        itemRepository.save(new Item(null, "Saw", "Hand saw", true, owner, request));
+
+        LocalDateTime now = LocalDateTime.now();
+        pastBooking = bookingRepository.save(
+                new Booking(drill, booker, now.minusDays(3), now.minusDays(2), BookingStatus.APPROVED));
+        bookingRepository.save(new Booking(drill, booker, now.minusDays(1), now.plusDays(1), BookingStatus.APPROVED));
+        bookingRepository.save(new Booking(drill, booker, now.plusDays(1), now.plusDays(2), BookingStatus.WAITING));
+        commentRepository.save(new Comment(drill, booker, "Works well"));
+
+        entityManager.flush();
+        entityManager.clear();
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void addBooking_ShouldReferenceBookerWithoutLoadingIt() {
+        BookingDto request = new BookingDto();
+        request.setItemId(drill.getId());
+        request.setStart(LocalDateTime.now().plusDays(5));
+        request.setEnd(request.getStart().plusDays(1));
+
+        BookingResponseDto booking = bookingService.addBooking(booker.getId(), request);
+        entityManager.flush();
+
+        assertThat(booking.getBooker().getId()).isEqualTo(booker.getId());
+        assertThat(statistics.getEntityStatistics(User.class.getName()).getLoadCount()).isZero();
+    }
+
+    @Test
+    void getUserBookings_ShouldProjectWithoutLoadingEntities() {
+        List<BookingResponseDto> bookings = bookingService.getUserBookings(booker.getId(), "ALL", 0, 10);
+
+        assertThat(bookings).hasSize(3)
+                .allSatisfy(booking -> assertThat(booking.getItem().getName()).isEqualTo("Drill"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void getOwnerBookings_ShouldUseExistenceCheckAndSingleQuery() {
+        List<BookingResponseDto> bookings = bookingService.getOwnerBookings(owner.getId(), "ALL", 0, 10);
+
+        assertThat(bookings).hasSize(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void getBookingById_ShouldFetchItemWithBooking() throws AccessDeniedException {
+        BookingResponseDto booking = bookingService.getBookingById(pastBooking.getId(), booker.getId());
+
+        assertThat(booking.getItem().getName()).isEqualTo("Drill");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getItemById_ShouldNotLoadOwner() {
+        ItemDto item = itemService.getItemById(drill.getId(), owner.getId());
+
+        assertThat(item.getLastBooking()).isNotNull();
+        assertThat(item.getComments()).hasSize(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityFetchCount()).isZero();
+    }
+
+    @Test
+    void getAllItemsByOwner_ShouldUseThreeStatements() {
+        List<ItemDto> items = itemService.getAllItemsByOwner(owner.getId());
+
+        assertThat(items).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityFetchCount()).isZero();
+    }
+
+    @Test
+    void getAllRequests_ShouldNotLoadRequesters() {
+        List<ItemRequestDto> requests = itemRequestService.getAllRequests(owner.getId(), 0, 10);
+
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0).getItems()).hasSize(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityFetchCount()).isZero();
+    }
+}
@@ -1,5 +1,6 @@
 package ru.practicum.shareit;
 
+import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,6 +28,8 @@ import static org.junit.jupiter.api.Assertions.*;
 public class UserServiceTest {
     @Autowired
     private UserRepository userRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
 
     private UserServiceImpl userService;
 
@@ -34,7 +37,7 @@ public class UserServiceTest {
 
     @BeforeEach
     void setUp() {
-        userService = new UserServiceImpl(userRepository);
+        userService = new UserServiceImpl(userRepository, entityManagerFactory);
         user = new User(null, "Test User", "test@example.com");
         userRepository.save(user);
     }
@@ -137,4 +140,10 @@ public class UserServiceTest {
     void existsById_ShouldReturnFalse_WhenUserNotExists() {
         assertFalse(userService.existsById(999L));
     }
+
+    @Test
+    void checkUserExists_ShouldThrowNotFoundException_WhenUserNotExists() {
+        userService.checkUserExists(user.getId());
+        assertThrows(NotFoundException.class, () -> userService.checkUserExists(999L));
+    }
 }